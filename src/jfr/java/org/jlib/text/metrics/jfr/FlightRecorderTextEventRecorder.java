@@ -0,0 +1,78 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics.jfr;
+
+import org.jlib.text.metrics.TextEvent;
+import org.jlib.text.metrics.TextEventRecorder;
+
+/**
+ * {@link TextEventRecorder} recording JDK Flight Recorder events. If an event type is disabled in the running
+ * recordings, {@link TextEvent#NONE} is returned, so no event object escapes. Not public, as classes in the
+ * multi-release section of the jar must not add public API; it is instantiated reflectively.
+ *
+ * @author Igor Akkerman
+ */
+final class FlightRecorderTextEventRecorder
+    implements TextEventRecorder {
+
+    @Override
+    public TextEvent beginTemplateRendering(final String name, final CharSequence template, final int argumentCount) {
+        final TemplateRenderingEvent event = new TemplateRenderingEvent();
+        if (! event.isEnabled())
+            return TextEvent.NONE;
+
+        event.begin();
+
+        return outputLength -> {
+            event.end();
+            if (! event.shouldCommit())
+                return;
+
+            event.name = name;
+            event.template = template.toString();
+            event.argumentCount = argumentCount;
+            event.outputLength = outputLength;
+            event.commit();
+        };
+    }
+
+    @Override
+    public TextEvent beginStringTransformation(final String name, final int inputLength) {
+        final StringTransformationEvent event = new StringTransformationEvent();
+        if (! event.isEnabled())
+            return TextEvent.NONE;
+
+        event.begin();
+
+        return outputLength -> {
+            event.end();
+            if (! event.shouldCommit())
+                return;
+
+            event.name = name;
+            event.inputLength = inputLength;
+            event.outputLength = outputLength;
+            event.commit();
+        };
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event of a String transformation. Recorded if its duration reaches the threshold, by default
+ * {@code 1 ms}, which may be changed in the recording settings.
+ *
+ * @author Igor Akkerman
+ */
+@Name("org.jlib.text.StringTransformation")
+@Label("String Transformation")
+@Description("Transformation of a String by a jlib StringTransformer")
+@Category({ "jlib", "Text" })
+@Threshold("1 ms")
+@StackTrace(false)
+class StringTransformationEvent
+    extends Event {
+
+    @Label("Name")
+    @Description("Name of the recording StringTransformer decorator")
+    String name;
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Output Length")
+    int outputLength;
+}
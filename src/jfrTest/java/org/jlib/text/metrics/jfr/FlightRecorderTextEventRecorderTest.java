@@ -0,0 +1,131 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jlib.text.metrics.TextEvent;
+import org.jlib.text.metrics.TextEventRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the {@link FlightRecorderTextEventRecorder}.
+ *
+ * @author Igor Akkerman
+ */
+public class FlightRecorderTextEventRecorderTest {
+
+    private final FlightRecorderTextEventRecorder eventRecorder = new FlightRecorderTextEventRecorder();
+
+    private Path recordingFile;
+
+    @BeforeEach
+    public void createRecordingFile()
+        throws IOException {
+        recordingFile = Files.createTempFile("jlib-text", ".jfr");
+    }
+
+    @AfterEach
+    public void deleteRecordingFile()
+        throws IOException {
+        Files.delete(recordingFile);
+    }
+
+    @Test
+    public void flightRecorderLoaded() {
+        assertThat(TextEventRecorder.flightRecorder()).isInstanceOf(FlightRecorderTextEventRecorder.class);
+    }
+
+    @Test
+    public void templateRenderingEventCommitted()
+        throws IOException {
+
+        // when
+        try (final Recording recording = new Recording()) {
+            recording.enable(TemplateRenderingEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            eventRecorder.beginTemplateRendering("greeting", "hello {0}", 1).commit(11);
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // then
+        final List<RecordedEvent> events = readEvents("org.jlib.text.TemplateRendering");
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("name")).isEqualTo("greeting");
+        assertThat(events.get(0).getString("template")).isEqualTo("hello {0}");
+        assertThat(events.get(0).getInt("argumentCount")).isEqualTo(1);
+        assertThat(events.get(0).getInt("outputLength")).isEqualTo(11);
+    }
+
+    @Test
+    public void stringTransformationEventCommitted()
+        throws IOException {
+
+        // when
+        try (final Recording recording = new Recording()) {
+            recording.enable(StringTransformationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            eventRecorder.beginStringTransformation("align", 2).commit(6);
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // then
+        final List<RecordedEvent> events = readEvents("org.jlib.text.StringTransformation");
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getString("name")).isEqualTo("align");
+        assertThat(events.get(0).getInt("inputLength")).isEqualTo(2);
+        assertThat(events.get(0).getInt("outputLength")).isEqualTo(6);
+    }
+
+    @Test
+    public void noEventIfDisabled() {
+        assertThat(eventRecorder.beginTemplateRendering("greeting", "hello {0}", 1)).isSameAs(TextEvent.NONE);
+        assertThat(eventRecorder.beginStringTransformation("align", 2)).isSameAs(TextEvent.NONE);
+    }
+
+    private List<RecordedEvent> readEvents(final String eventName)
+        throws IOException {
+        return RecordingFile.readAllEvents(recordingFile).stream()
+                            .filter(event -> event.getEventType().getName().equals(eventName))
+                            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the traversal of a {@link CharSequence} using a {@link CharSequenceIterator}.
+ *
+ * @author Igor Akkerman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharSequenceIteratorBenchmark {
+
+    /** length of the traversed {@link CharSequence} */
+    @Param({ "16", "1024", "65536" })
+    public int length;
+
+    /** {@code true} if the traversed {@link CharSequence} contains only ASCII characters */
+    @Param({ "true", "false" })
+    public boolean ascii;
+
+    private String string;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder stringBuilder = new StringBuilder(length);
+        for (int characterIndex = 0; characterIndex < length; characterIndex++)
+            stringBuilder.append(ascii
+                                 ? (char) ('a' + characterIndex % 26)
+                                 : (char) ('\u00e0' + characterIndex % 26));
+        string = stringBuilder.toString();
+    }
+
+    @Benchmark
+    public int iterator() {
+        int sum = 0;
+        final Iterator<Character> iterator = new CharSequenceIterator(string);
+        while (iterator.hasNext())
+            sum += iterator.next();
+        return sum;
+    }
+
+    @Benchmark
+    public int asIterable() {
+        int sum = 0;
+        for (final char character : Text.asIterable(string))
+            sum += character;
+        return sum;
+    }
+
+    @Benchmark
+    public int charIterator() {
+        int sum = 0;
+        final CharIterator charIterator = Text.asCharIterable(string).charIterator();
+        while (charIterator.hasNext())
+            sum += charIterator.nextChar();
+        return sum;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import static org.jlib.text.Text.removeFirst;
+import static org.jlib.text.Text.removeFirstLiteral;
+import static org.jlib.text.Text.splitInto;
+
+/**
+ * Benchmark of the {@link Text} operations {@link Text#splitInto} and {@link Text#removeFirst} and of the
+ * {@link Splitter}.
+ *
+ * @author Igor Akkerman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBenchmark {
+
+    /** number of fields of the split String */
+    @Param({ "2", "8", "32" })
+    public int fieldCount;
+
+    /** length of each field of the split String */
+    @Param({ "4", "64" })
+    public int fieldLength;
+
+    private String compositeString;
+
+    private String removedString;
+
+    private final Splitter splitter = Splitter.on(';');
+
+    private Consumer<String>[] elementConsumers;
+
+    private Blackhole blackhole;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(final Blackhole blackhole) {
+        this.blackhole = blackhole;
+
+        final StringBuilder compositeStringBuilder = new StringBuilder(fieldCount * (fieldLength + 1));
+        for (int fieldIndex = 0; fieldIndex < fieldCount; fieldIndex++) {
+            if (fieldIndex > 0)
+                compositeStringBuilder.append(';');
+            for (int characterIndex = 0; characterIndex < fieldLength; characterIndex++)
+                compositeStringBuilder.append((char) ('a' + (fieldIndex + characterIndex) % 26));
+        }
+        compositeString = compositeStringBuilder.toString();
+
+        removedString = compositeString.substring(compositeString.length() / 2, compositeString.length() / 2 + 3);
+
+        elementConsumers = (Consumer<String>[]) new Consumer<?>[fieldCount];
+        for (int fieldIndex = 0; fieldIndex < fieldCount; fieldIndex++)
+            elementConsumers[fieldIndex] = this.blackhole::consume;
+    }
+
+    @Benchmark
+    public void splitIntoSingleCharacter() {
+        splitInto(compositeString, ";", elementConsumers);
+    }
+
+    @Benchmark
+    public void splitIntoRegex() {
+        splitInto(compositeString, "[;]", elementConsumers);
+    }
+
+    @Benchmark
+    public void splitterSingleCharacter() {
+        splitter.splitInto(compositeString, elementConsumers);
+    }
+
+    @Benchmark
+    public String removeFirstString() {
+        return removeFirst(compositeString, removedString);
+    }
+
+    @Benchmark
+    public String removeFirstLiteralString() {
+        return removeFirstLiteral(compositeString, removedString);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the {@link TemplateEngine}s.
+ *
+ * @author Igor Akkerman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateEngineBenchmark {
+
+    /** number of arguments applied to the template */
+    @Param({ "1", "4", "16" })
+    public int argumentCount;
+
+    /** length of the literal text between two placeholders */
+    @Param({ "4", "64" })
+    public int literalLength;
+
+    private String printfTemplate;
+
+    private String messageFormatTemplate;
+
+    private Object[] arguments;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder literalBuilder = new StringBuilder(literalLength);
+        for (int characterIndex = 0; characterIndex < literalLength; characterIndex++)
+            literalBuilder.append((char) ('a' + characterIndex % 26));
+        final String literal = literalBuilder.toString();
+
+        final StringBuilder printfTemplateBuilder = new StringBuilder();
+        final StringBuilder messageFormatTemplateBuilder = new StringBuilder();
+        arguments = new Object[argumentCount];
+
+        for (int argumentIndex = 0; argumentIndex < argumentCount; argumentIndex++) {
+            printfTemplateBuilder.append(literal).append(argumentIndex % 2 == 0 ? "%s" : "%d");
+            messageFormatTemplateBuilder.append(literal).append('{').append(argumentIndex).append('}');
+            arguments[argumentIndex] = argumentIndex % 2 == 0
+                                       ? "argument" + argumentIndex
+                                       : (Object) (argumentIndex * 1000);
+        }
+
+        printfTemplate = printfTemplateBuilder.append(literal).toString();
+        messageFormatTemplate = messageFormatTemplateBuilder.append(literal).toString();
+    }
+
+    @Benchmark
+    public String printf() {
+        return PrintfTemplateEngine.INSTANCE.applyArguments(printfTemplate, arguments);
+    }
+
+    @Benchmark
+    public String messageFormat() {
+        return MessageFormatTemplateEngine.INSTANCE.applyArguments(messageFormatTemplate, arguments);
+    }
+
+    @Benchmark
+    public String placeholder() {
+        return PlaceholderTemplateEngine.INSTANCE.applyArguments(messageFormatTemplate, arguments);
+    }
+
+    @Benchmark
+    public String ignoreArguments() {
+        return IgnoreArgumentsTemplateEngine.instance().applyArguments(messageFormatTemplate, arguments);
+    }
+}
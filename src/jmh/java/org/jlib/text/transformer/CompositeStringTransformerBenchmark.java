@@ -0,0 +1,120 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the {@link CompositeStringTransformer} and of the {@link FormattingStringTransformer}.
+ *
+ * @author Igor Akkerman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeStringTransformerBenchmark {
+
+    /** length of the transformed String */
+    @Param({ "8", "64", "512" })
+    public int length;
+
+    /** number of {@link StringTransformer}s composing the {@link CompositeStringTransformer} */
+    @Param({ "1", "4", "16" })
+    public int stageCount;
+
+    private String string;
+
+    private StringBuilder stringBuilder;
+
+    private StringTransformer compositeStringTransformer;
+
+    private StringTransformer compiledStringTransformer;
+
+    private StringTransformer formattingStringTransformer;
+
+    private StringTransformer multipleValuesFormattingStringTransformer;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder stringBuilder = new StringBuilder(length);
+        for (int characterIndex = 0; characterIndex < length; characterIndex++)
+            stringBuilder.append((char) ('a' + characterIndex % 26));
+        string = stringBuilder.toString();
+
+        final int finalStringLength = length + 2 * stageCount;
+        this.stringBuilder = new StringBuilder(finalStringLength);
+
+        final CompositeStringTransformer compositeStringTransformer = new CompositeStringTransformer();
+        for (int stageIndex = 1; stageIndex <= stageCount; stageIndex++)
+            compositeStringTransformer.addStringTransformer(stageIndex % 2 == 0
+                                                            ? new LeftAligningStringTransformer(length + 2 * stageIndex, '.')
+                                                            : new CenteringStringTransformer(length + 2 * stageIndex, ' '));
+        this.compositeStringTransformer = compositeStringTransformer;
+        compiledStringTransformer = compositeStringTransformer.compile();
+
+        formattingStringTransformer = new FormattingStringTransformer("[%s]");
+        multipleValuesFormattingStringTransformer = new FormattingStringTransformer("%d: %s (%x)", 1, 42, 255);
+    }
+
+    @Benchmark
+    public StringBuilder composite() {
+        return transform(compositeStringTransformer);
+    }
+
+    @Benchmark
+    public StringBuilder compiled() {
+        return transform(compiledStringTransformer);
+    }
+
+    @Benchmark
+    public StringBuilder format() {
+        return transform(formattingStringTransformer);
+    }
+
+    @Benchmark
+    public StringBuilder formatMultipleValues() {
+        return transform(multipleValuesFormattingStringTransformer);
+    }
+
+    private StringBuilder transform(final StringTransformer stringTransformer) {
+        stringBuilder.setLength(0);
+        stringBuilder.append(string);
+        stringTransformer.transform(stringBuilder);
+        return stringBuilder;
+    }
+}
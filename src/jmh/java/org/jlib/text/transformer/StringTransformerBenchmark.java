@@ -0,0 +1,128 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the {@link PaddingStringTransformer}s and of the {@link CamelCaseToLowerCaseWordsTransformer}.
+ *
+ * @author Igor Akkerman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringTransformerBenchmark {
+
+    /** length of the transformed String */
+    @Param({ "8", "64", "512" })
+    public int length;
+
+    /** number of characters to pad */
+    @Param({ "0", "7", "64" })
+    public int padLength;
+
+    private String string;
+
+    private String camelCaseString;
+
+    private StringBuilder stringBuilder;
+
+    private StringTransformer centeringStringTransformer;
+
+    private StringTransformer rightCenteringStringTransformer;
+
+    private StringTransformer leftAligningStringTransformer;
+
+    private StringTransformer rightAligningStringTransformer;
+
+    private StringTransformer camelCaseToLowerCaseWordsTransformer;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder stringBuilder = new StringBuilder(length);
+        final StringBuilder camelCaseStringBuilder = new StringBuilder(length);
+        for (int characterIndex = 0; characterIndex < length; characterIndex++) {
+            final char character = (char) ('a' + characterIndex % 26);
+            stringBuilder.append(character);
+            camelCaseStringBuilder.append(characterIndex % 5 == 4 ? Character.toUpperCase(character) : character);
+        }
+        string = stringBuilder.toString();
+        camelCaseString = camelCaseStringBuilder.toString();
+
+        this.stringBuilder = new StringBuilder(length + padLength);
+
+        centeringStringTransformer = new CenteringStringTransformer(length + padLength, ' ');
+        rightCenteringStringTransformer = new RightCenteringStringTransformer(length + padLength, ' ');
+        leftAligningStringTransformer = new LeftAligningStringTransformer(length + padLength, ' ');
+        rightAligningStringTransformer = new RightAligningStringTransformer(length + padLength, ' ');
+        camelCaseToLowerCaseWordsTransformer = new CamelCaseToLowerCaseWordsTransformer();
+    }
+
+    @Benchmark
+    public StringBuilder center() {
+        return transform(centeringStringTransformer, string);
+    }
+
+    @Benchmark
+    public StringBuilder centerRight() {
+        return transform(rightCenteringStringTransformer, string);
+    }
+
+    @Benchmark
+    public StringBuilder leftAlign() {
+        return transform(leftAligningStringTransformer, string);
+    }
+
+    @Benchmark
+    public StringBuilder rightAlign() {
+        return transform(rightAligningStringTransformer, string);
+    }
+
+    @Benchmark
+    public StringBuilder camelCaseToLowerCaseWords() {
+        return transform(camelCaseToLowerCaseWordsTransformer, camelCaseString);
+    }
+
+    private StringBuilder transform(final StringTransformer stringTransformer, final String original) {
+        stringBuilder.setLength(0);
+        stringBuilder.append(original);
+        stringTransformer.transform(stringBuilder);
+        return stringBuilder;
+    }
+}
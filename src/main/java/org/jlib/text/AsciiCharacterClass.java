@@ -0,0 +1,222 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.Arrays;
+
+import static org.jlib.text.AsciiScanning.LANE_HIGH_BITS;
+import static org.jlib.text.AsciiScanning.LANE_LOW_BITS;
+import static org.jlib.text.AsciiScanning.LANE_ONES;
+
+/**
+ * <p>
+ * Immutable class of characters, consisting of a set of ASCII characters and, optionally, all non-ASCII characters.
+ * Used by {@link AsciiScanning} to search {@link CharSequence}s.
+ * </p>
+ * <p>
+ * The ASCII characters are held as ranges of consecutive characters. Four characters packed into a {@code long} are
+ * matched by two additions per range, so a class consisting of few ranges, like {@link #UPPER_CASE_LETTERS}, is
+ * matched fastest.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class AsciiCharacterClass {
+
+    /** empty class */
+    public static final AsciiCharacterClass NONE = new AsciiCharacterClass(0, 0, false);
+
+    /** ASCII letters {@code A-Z} */
+    public static final AsciiCharacterClass UPPER_CASE_LETTERS = range('A', 'Z');
+
+    /** ASCII letters {@code a-z} */
+    public static final AsciiCharacterClass LOWER_CASE_LETTERS = range('a', 'z');
+
+    /** ASCII digits {@code 0-9} */
+    public static final AsciiCharacterClass DIGITS = range('0', '9');
+
+    /** all non-ASCII characters */
+    public static final AsciiCharacterClass NON_ASCII = new AsciiCharacterClass(0, 0, true);
+
+    /** number of ASCII characters */
+    private static final int ASCII_CHARACTER_COUNT = 128;
+
+    /** lane bits signaling a character not in the range {@code 0-0x7FFF} to be outside the ASCII range */
+    private static final long LANE_NON_ASCII_LOW_BITS = 0x7F80_7F80_7F80_7F80L;
+
+    /** bits of the ASCII characters {@code 0-63} */
+    private final long lowerAsciiBits;
+
+    /** bits of the ASCII characters {@code 64-127} */
+    private final long upperAsciiBits;
+
+    /** whether all non-ASCII characters are contained */
+    private final boolean nonAsciiContained;
+
+    /** addends to the characters of a word setting the high lane bit for characters at least the range start */
+    private final long[] rangeStartAddends;
+
+    /** addends to the characters of a word setting the high lane bit for characters beyond the range end */
+    private final long[] rangeEndAddends;
+
+    private AsciiCharacterClass(final long lowerAsciiBits, final long upperAsciiBits,
+                                final boolean nonAsciiContained) {
+        this.lowerAsciiBits = lowerAsciiBits;
+        this.upperAsciiBits = upperAsciiBits;
+        this.nonAsciiContained = nonAsciiContained;
+
+        final long[] startAddends = new long[ASCII_CHARACTER_COUNT / 2];
+        final long[] endAddends = new long[ASCII_CHARACTER_COUNT / 2];
+        int rangeCount = 0;
+
+        for (int character = 0; character < ASCII_CHARACTER_COUNT; character++) {
+            if (! containsAscii(character))
+                continue;
+
+            final int rangeStart = character;
+            while (character + 1 < ASCII_CHARACTER_COUNT && containsAscii(character + 1))
+                character++;
+
+            startAddends[rangeCount] = LANE_ONES * (0x8000 - rangeStart);
+            endAddends[rangeCount] = LANE_ONES * (0x7FFF - character);
+            rangeCount++;
+        }
+
+        rangeStartAddends = Arrays.copyOf(startAddends, rangeCount);
+        rangeEndAddends = Arrays.copyOf(endAddends, rangeCount);
+    }
+
+    /**
+     * Returns the class of the ASCII characters in the specified range.
+     *
+     * @param firstCharacter
+     *        first ASCII character of the range
+     *
+     * @param lastCharacter
+     *        last ASCII character of the range
+     *
+     * @return {@link AsciiCharacterClass} of the range
+     *
+     * @throws IllegalArgumentException
+     *         if {@code firstCharacter > lastCharacter || lastCharacter > 0x7F}
+     */
+    public static AsciiCharacterClass range(final char firstCharacter, final char lastCharacter) {
+        if (firstCharacter > lastCharacter || lastCharacter >= ASCII_CHARACTER_COUNT)
+            throw new IllegalArgumentException(String.format("Invalid ASCII range. first=0x%02X, last=0x%02X.",
+                                                             (int) firstCharacter, (int) lastCharacter));
+
+        long lowerAsciiBits = 0;
+        long upperAsciiBits = 0;
+
+        for (int character = firstCharacter; character <= lastCharacter; character++)
+            if (character < 64)
+                lowerAsciiBits |= 1L << character;
+            else
+                upperAsciiBits |= 1L << character - 64;
+
+        return new AsciiCharacterClass(lowerAsciiBits, upperAsciiBits, false);
+    }
+
+    /**
+     * Returns the class of the specified ASCII characters.
+     *
+     * @param characters
+     *        comma separated sequence of ASCII characters
+     *
+     * @return {@link AsciiCharacterClass} of {@code characters}
+     *
+     * @throws IllegalArgumentException
+     *         if one of {@code characters} is not an ASCII character
+     */
+    public static AsciiCharacterClass anyOf(final char... characters) {
+        AsciiCharacterClass characterClass = NONE;
+
+        for (final char character : characters)
+            characterClass = characterClass.or(range(character, character));
+
+        return characterClass;
+    }
+
+    /**
+     * Returns the union of this class and the specified class.
+     *
+     * @param other
+     *        other {@link AsciiCharacterClass}
+     *
+     * @return {@link AsciiCharacterClass} containing the characters of both classes
+     */
+    public AsciiCharacterClass or(final AsciiCharacterClass other) {
+        return new AsciiCharacterClass(lowerAsciiBits | other.lowerAsciiBits, upperAsciiBits | other.upperAsciiBits,
+                                       nonAsciiContained || other.nonAsciiContained);
+    }
+
+    /**
+     * Returns the union of this class and all non-ASCII characters.
+     *
+     * @return {@link AsciiCharacterClass} containing the characters of this class and all non-ASCII characters
+     */
+    public AsciiCharacterClass orNonAscii() {
+        return or(NON_ASCII);
+    }
+
+    /**
+     * Verifies whether this class contains the specified character.
+     *
+     * @param character
+     *        character to verify
+     *
+     * @return {@code true} if this class contains {@code character}; {@code false} otherwise
+     */
+    public boolean contains(final char character) {
+        return character < ASCII_CHARACTER_COUNT
+               ? containsAscii(character)
+               : nonAsciiContained;
+    }
+
+    private boolean containsAscii(final int character) {
+        return character < 64
+               ? (lowerAsciiBits >>> character & 1) != 0
+               : (upperAsciiBits >>> character - 64 & 1) != 0;
+    }
+
+    /**
+     * Returns the high lane bits of the characters in the specified word contained by this class.
+     *
+     * @param word
+     *        long containing four characters in 16 bit lanes
+     *
+     * @return long with bit 15 of each lane set if the lane's character is contained by this class
+     */
+    long matchingLanes(final long word) {
+        long matchingLanes = nonAsciiContained
+                             ? (word & LANE_NON_ASCII_LOW_BITS) + LANE_LOW_BITS | word
+                             : 0;
+
+        final long lowBits = word & LANE_LOW_BITS;
+        for (int rangeIndex = 0; rangeIndex < rangeStartAddends.length; rangeIndex++)
+            matchingLanes |= lowBits + rangeStartAddends[rangeIndex] & ~ (lowBits + rangeEndAddends[rangeIndex]) &
+                             ~ word;
+
+        return matchingLanes & LANE_HIGH_BITS;
+    }
+}
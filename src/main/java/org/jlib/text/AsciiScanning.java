@@ -0,0 +1,238 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * <p>
+ * Scanning of {@link CharSequence}s for ASCII and non-ASCII characters and for {@link AsciiCharacterClass}es.
+ * </p>
+ * <p>
+ * The characters are checked word-at-a-time: four characters are packed into the 16 bit lanes of a {@code long} and
+ * checked by a few arithmetic operations without a branch per character (SIMD within a register). Only the remaining
+ * characters at the end of the scanned range are checked one by one.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+@UtilityClass
+public class AsciiScanning {
+
+    /** number of characters packed into a word */
+    static final int CHARACTERS_PER_WORD = 4;
+
+    /** bit 0 of each lane */
+    static final long LANE_ONES = 0x0001_0001_0001_0001L;
+
+    /** bit 15 of each lane */
+    static final long LANE_HIGH_BITS = 0x8000_8000_8000_8000L;
+
+    /** bits 0 to 14 of each lane */
+    static final long LANE_LOW_BITS = 0x7FFF_7FFF_7FFF_7FFFL;
+
+    /** bits of each lane set only in non-ASCII characters */
+    private static final long LANE_NON_ASCII_BITS = 0xFF80_FF80_FF80_FF80L;
+
+    /**
+     * Verifies whether the specified {@link CharSequence} consists of ASCII characters only.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to verify
+     *
+     * @return {@code true} if {@code charSequence} consists of ASCII characters only; {@code false} otherwise
+     */
+    public static boolean isAscii(final CharSequence charSequence) {
+        return isAscii(charSequence, 0, charSequence.length());
+    }
+
+    /**
+     * Verifies whether the specified range of the specified {@link CharSequence} consists of ASCII characters only.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to verify
+     *
+     * @param startIndex
+     *        integer specifying the start index of the range
+     *
+     * @param endIndex
+     *        integer specifying the end index of the range
+     *
+     * @return {@code true} if the range consists of ASCII characters only; {@code false} otherwise
+     */
+    public static boolean isAscii(final CharSequence charSequence, final int startIndex, final int endIndex) {
+        return indexOfNonAscii(charSequence, startIndex, endIndex) == - 1;
+    }
+
+    /**
+     * Returns the index of the first non-ASCII character in the specified range of the specified
+     * {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to scan
+     *
+     * @param startIndex
+     *        integer specifying the start index of the range
+     *
+     * @param endIndex
+     *        integer specifying the end index of the range
+     *
+     * @return integer specifying the index of the first non-ASCII character;
+     *         {@code -1} if the range consists of ASCII characters only
+     */
+    public static int indexOfNonAscii(final CharSequence charSequence, final int startIndex, final int endIndex) {
+        int index = startIndex;
+
+        for (; index + CHARACTERS_PER_WORD <= endIndex; index += CHARACTERS_PER_WORD) {
+            final long nonAsciiBits = word(charSequence, index) & LANE_NON_ASCII_BITS;
+            if (nonAsciiBits != 0)
+                return index + firstLane(nonAsciiBits);
+        }
+
+        for (; index < endIndex; index++)
+            if (charSequence.charAt(index) >= 0x80)
+                return index;
+
+        return - 1;
+    }
+
+    /**
+     * Verifies whether the specified {@link CharSequence} contains any of the specified characters.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to verify
+     *
+     * @param characters
+     *        comma separated sequence of characters
+     *
+     * @return {@code true} if {@code charSequence} contains any of {@code characters}; {@code false} otherwise
+     */
+    public static boolean containsAny(final CharSequence charSequence, final char... characters) {
+        return indexOfAny(charSequence, 0, charSequence.length(), characters) != - 1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of any of the specified characters in the specified range of the
+     * specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to scan
+     *
+     * @param startIndex
+     *        integer specifying the start index of the range
+     *
+     * @param endIndex
+     *        integer specifying the end index of the range
+     *
+     * @param characters
+     *        comma separated sequence of characters
+     *
+     * @return integer specifying the index of the first occurrence;
+     *         {@code -1} if the range contains none of {@code characters}
+     */
+    public static int indexOfAny(final CharSequence charSequence, final int startIndex, final int endIndex,
+                                 final char... characters) {
+        int index = startIndex;
+
+        for (; index + CHARACTERS_PER_WORD <= endIndex; index += CHARACTERS_PER_WORD) {
+            final long word = word(charSequence, index);
+
+            long matchingLanes = 0;
+            for (final char character : characters)
+                matchingLanes |= zeroLanes(word ^ LANE_ONES * character);
+
+            if (matchingLanes != 0)
+                return index + firstLane(matchingLanes);
+        }
+
+        for (; index < endIndex; index++) {
+            final char character = charSequence.charAt(index);
+            for (final char searchedCharacter : characters)
+                if (character == searchedCharacter)
+                    return index;
+        }
+
+        return - 1;
+    }
+
+    /**
+     * Returns the index of the first character of the specified {@link AsciiCharacterClass} in the specified range of
+     * the specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to scan
+     *
+     * @param startIndex
+     *        integer specifying the start index of the range
+     *
+     * @param endIndex
+     *        integer specifying the end index of the range
+     *
+     * @param characterClass
+     *        {@link AsciiCharacterClass} of the searched characters
+     *
+     * @return integer specifying the index of the first character of {@code characterClass};
+     *         {@code -1} if the range contains no such character
+     */
+    public static int indexOf(final CharSequence charSequence, final int startIndex, final int endIndex,
+                              final AsciiCharacterClass characterClass) {
+        int index = startIndex;
+
+        for (; index + CHARACTERS_PER_WORD <= endIndex; index += CHARACTERS_PER_WORD) {
+            final long matchingLanes = characterClass.matchingLanes(word(charSequence, index));
+            if (matchingLanes != 0)
+                return index + firstLane(matchingLanes);
+        }
+
+        for (; index < endIndex; index++)
+            if (characterClass.contains(charSequence.charAt(index)))
+                return index;
+
+        return - 1;
+    }
+
+    /**
+     * Packs the four characters starting at the specified index into the 16 bit lanes of a {@code long}, the first
+     * character into the lowest lane.
+     */
+    private static long word(final CharSequence charSequence, final int index) {
+        return charSequence.charAt(index) |
+               (long) charSequence.charAt(index + 1) << 16 |
+               (long) charSequence.charAt(index + 2) << 32 |
+               (long) charSequence.charAt(index + 3) << 48;
+    }
+
+    /**
+     * Returns the high lane bits of the lanes of the specified word being zero.
+     */
+    private static long zeroLanes(final long word) {
+        return ~ ((word & LANE_LOW_BITS) + LANE_LOW_BITS | word | LANE_LOW_BITS);
+    }
+
+    /**
+     * Returns the index of the lowest lane having a bit set in the specified lane bits.
+     */
+    private static int firstLane(final long laneBits) {
+        return Long.numberOfTrailingZeros(laneBits) >>> 4;
+    }
+}
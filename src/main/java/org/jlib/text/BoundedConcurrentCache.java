@@ -0,0 +1,138 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Thread-safe cache of a bounded number of values, typically compiled forms of textual templates or patterns, which
+ * are expensive to compute but may safely be recomputed.
+ * </p>
+ * <p>
+ * Lookups do not lock. When the maximum size is reached, a randomly chosen entry is evicted before a new value is
+ * stored, so a working set exceeding the maximum size degrades gracefully instead of growing without limit, and no
+ * entry is evicted more often than others because of its position in the underlying map.
+ * </p>
+ * <p>
+ * The maximum size is approximate: callers storing values concurrently may each see space left, so the number of
+ * cached values may exceed the maximum size by up to the number of these callers.
+ * </p>
+ *
+ * @param <Key>
+ *        type of the keys
+ *
+ * @param <Value>
+ *        type of the cached values
+ *
+ * @author Igor Akkerman
+ */
+public final class BoundedConcurrentCache<Key, Value> {
+
+    /** maximum number of cached values */
+    private final int maximumSize;
+
+    /** cached values by key */
+    private final ConcurrentMap<Key, Value> values;
+
+    /**
+     * Creates a new BoundedConcurrentCache.
+     *
+     * @param maximumSize
+     *        integer specifying the maximum number of cached values
+     *
+     * @throws IllegalArgumentException
+     *         if {@code maximumSize < 1}
+     */
+    public BoundedConcurrentCache(final int maximumSize) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("maximumSize=" + maximumSize);
+
+        this.maximumSize = maximumSize;
+        values = new ConcurrentHashMap<>(Math.min(maximumSize, 64));
+    }
+
+    /**
+     * Returns the value cached for the specified key, computing and caching it if absent. Concurrent callers may
+     * compute the value for the same key more than once.
+     *
+     * @param key
+     *        key of the value
+     *
+     * @param valueComputer
+     *        {@link Function} computing the value for {@code key}
+     *
+     * @return the cached value
+     */
+    public Value get(final Key key, final Function<? super Key, ? extends Value> valueComputer) {
+        final Value cachedValue = values.get(key);
+        if (cachedValue != null)
+            return cachedValue;
+
+        final Value computedValue = valueComputer.apply(key);
+
+        if (values.size() >= maximumSize)
+            evictRandom();
+
+        final Value concurrentlyCachedValue = values.putIfAbsent(key, computedValue);
+
+        return concurrentlyCachedValue != null
+               ? concurrentlyCachedValue
+               : computedValue;
+    }
+
+    /**
+     * Evicts a randomly chosen cached value. If values are concurrently removed, the last value reached is evicted.
+     */
+    private void evictRandom() {
+        final Iterator<Key> keysIterator = values.keySet().iterator();
+        final int victimIndex = ThreadLocalRandom.current().nextInt(maximumSize);
+
+        Key victimKey = null;
+        for (int keyIndex = 0; keyIndex <= victimIndex && keysIterator.hasNext(); keyIndex++)
+            victimKey = keysIterator.next();
+
+        if (victimKey != null)
+            values.remove(victimKey);
+    }
+
+    /**
+     * Returns the number of currently cached values.
+     *
+     * @return integer specifying the number of cached values
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        values.clear();
+    }
+}
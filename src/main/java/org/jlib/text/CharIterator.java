@@ -0,0 +1,57 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * {@link PrimitiveIterator.OfInt} over characters, returning each character as primitive {@code char} or
+ * {@code int} without boxing it into a {@link Character}.
+ *
+ * @author Igor Akkerman
+ */
+public interface CharIterator
+    extends PrimitiveIterator.OfInt {
+
+    /**
+     * Returns the next character.
+     *
+     * @return next character
+     *
+     * @throws java.util.NoSuchElementException
+     *         if there is no next character
+     */
+    char nextChar();
+
+    @Override
+    default int nextInt() {
+        return nextChar();
+    }
+
+    @Override
+    default void forEachRemaining(final IntConsumer characterConsumer) {
+        while (hasNext())
+            characterConsumer.accept(nextChar());
+    }
+}
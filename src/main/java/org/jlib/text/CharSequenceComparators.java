@@ -0,0 +1,225 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Function;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * <p>
+ * Package facade providing {@link Comparator}s of {@link CharSequence}s. The {@link Comparator}s read the compared
+ * {@link CharSequence}s using {@link CharSequence#length()} and {@link CharSequence#charAt(int)} and never copy them.
+ * </p>
+ * <p>
+ * The facade also provides a sorting routine computing each sort key only once, for objects whose key, like the
+ * {@link String} representation, is expensive to compute.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+@UtilityClass
+public final class CharSequenceComparators {
+
+    /** {@link Comparator} by length */
+    private static final Comparator<CharSequence> BY_LENGTH =
+        (charSequence1, charSequence2) -> Integer.compare(charSequence1.length(), charSequence2.length());
+
+    /** lexicographic {@link Comparator} by character values */
+    private static final Comparator<CharSequence> LEXICOGRAPHIC = CharSequenceComparators::compareLexicographically;
+
+    /** {@link Comparator} by length, then lexicographically */
+    private static final Comparator<CharSequence> BY_LENGTH_THEN_LEXICOGRAPHIC =
+        (charSequence1, charSequence2) -> {
+            final int lengthComparison = Integer.compare(charSequence1.length(), charSequence2.length());
+            return lengthComparison != 0
+                   ? lengthComparison
+                   : compareLexicographically(charSequence1, charSequence2);
+        };
+
+    /** lexicographic {@link Comparator} ignoring the case of ASCII letters */
+    private static final Comparator<CharSequence> ASCII_CASE_INSENSITIVE =
+        CharSequenceComparators::compareAsciiCaseInsensitively;
+
+    /**
+     * Returns a {@link Comparator} of {@link CharSequence}s by length.
+     *
+     * @param <Compared>
+     *        type of the compared {@link CharSequence}s
+     *
+     * @return {@link Comparator} by length
+     */
+    @SuppressWarnings("unchecked")
+    public static <Compared extends CharSequence> Comparator<Compared> byLength() {
+        return (Comparator<Compared>) BY_LENGTH;
+    }
+
+    /**
+     * Returns a {@link Comparator} of {@link CharSequence}s lexicographically comparing the character values, as
+     * {@link String#compareTo(String)}.
+     *
+     * @param <Compared>
+     *        type of the compared {@link CharSequence}s
+     *
+     * @return lexicographic {@link Comparator}
+     */
+    @SuppressWarnings("unchecked")
+    public static <Compared extends CharSequence> Comparator<Compared> lexicographic() {
+        return (Comparator<Compared>) LEXICOGRAPHIC;
+    }
+
+    /**
+     * Returns a {@link Comparator} of {@link CharSequence}s by length, comparing {@link CharSequence}s of equal
+     * length lexicographically.
+     *
+     * @param <Compared>
+     *        type of the compared {@link CharSequence}s
+     *
+     * @return {@link Comparator} by length, then lexicographically
+     */
+    @SuppressWarnings("unchecked")
+    public static <Compared extends CharSequence> Comparator<Compared> byLengthThenLexicographic() {
+        return (Comparator<Compared>) BY_LENGTH_THEN_LEXICOGRAPHIC;
+    }
+
+    /**
+     * Returns a {@link Comparator} of {@link CharSequence}s lexicographically comparing the character values,
+     * considering the ASCII letters {@code A} to {@code Z} equal to {@code a} to {@code z}. All other characters are
+     * compared by value, so the order does not depend on the {@link java.util.Locale}.
+     *
+     * @param <Compared>
+     *        type of the compared {@link CharSequence}s
+     *
+     * @return {@link Comparator} ignoring the case of ASCII letters
+     */
+    @SuppressWarnings("unchecked")
+    public static <Compared extends CharSequence> Comparator<Compared> asciiCaseInsensitive() {
+        return (Comparator<Compared>) ASCII_CASE_INSENSITIVE;
+    }
+
+    /**
+     * Sorts the specified {@link List} by the keys of its items, computing the key of each item only once. The sort
+     * is stable.
+     *
+     * @param items
+     *        {@link List} of items to sort
+     *
+     * @param keyExtractor
+     *        {@link Function} computing the key of an item, for instance {@link Object#toString()}
+     *
+     * @param keyComparator
+     *        {@link Comparator} of the keys
+     *
+     * @param <Item>
+     *        type of the items
+     *
+     * @param <Key>
+     *        type of the keys
+     */
+    public static <Item, Key> void sortByCachedKey(final List<Item> items,
+                                                   final Function<? super Item, ? extends Key> keyExtractor,
+                                                   final Comparator<? super Key> keyComparator) {
+        @SuppressWarnings("unchecked")
+        final KeyedItem<Item, Key>[] keyedItems = (KeyedItem<Item, Key>[]) new KeyedItem<?, ?>[items.size()];
+
+        int itemIndex = 0;
+        for (final Item item : items)
+            keyedItems[itemIndex++] = new KeyedItem<>(keyExtractor.apply(item), item);
+
+        Arrays.sort(keyedItems, (keyedItem1, keyedItem2) -> keyComparator.compare(keyedItem1.key, keyedItem2.key));
+
+        final ListIterator<Item> itemsIterator = items.listIterator();
+        for (final KeyedItem<Item, Key> keyedItem : keyedItems) {
+            itemsIterator.next();
+            itemsIterator.set(keyedItem.item);
+        }
+    }
+
+    private static int compareLexicographically(final CharSequence charSequence1, final CharSequence charSequence2) {
+        final int length1 = charSequence1.length();
+        final int length2 = charSequence2.length();
+        final int commonLength = Math.min(length1, length2);
+
+        for (int characterIndex = 0; characterIndex < commonLength; characterIndex++) {
+            final char character1 = charSequence1.charAt(characterIndex);
+            final char character2 = charSequence2.charAt(characterIndex);
+
+            if (character1 != character2)
+                return character1 - character2;
+        }
+
+        return length1 - length2;
+    }
+
+    private static int compareAsciiCaseInsensitively(final CharSequence charSequence1,
+                                                     final CharSequence charSequence2) {
+        final int length1 = charSequence1.length();
+        final int length2 = charSequence2.length();
+        final int commonLength = Math.min(length1, length2);
+
+        for (int characterIndex = 0; characterIndex < commonLength; characterIndex++) {
+            final char character1 = charSequence1.charAt(characterIndex);
+            final char character2 = charSequence2.charAt(characterIndex);
+
+            if (character1 != character2) {
+                final int lowerCaseCharacter1 = toAsciiLowerCase(character1);
+                final int lowerCaseCharacter2 = toAsciiLowerCase(character2);
+
+                if (lowerCaseCharacter1 != lowerCaseCharacter2)
+                    return lowerCaseCharacter1 - lowerCaseCharacter2;
+            }
+        }
+
+        return length1 - length2;
+    }
+
+    private static int toAsciiLowerCase(final char character) {
+        return character >= 'A' && character <= 'Z'
+               ? character + ('a' - 'A')
+               : character;
+    }
+
+    /**
+     * Item with its precomputed sort key.
+     *
+     * @param <Item>
+     *        type of the item
+     *
+     * @param <Key>
+     *        type of the key
+     */
+    private static final class KeyedItem<Item, Key> {
+
+        private final Key key;
+        private final Item item;
+
+        private KeyedItem(final Key key, final Item item) {
+            this.key = key;
+            this.item = item;
+        }
+    }
+}
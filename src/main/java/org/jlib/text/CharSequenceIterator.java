@@ -204,6 +204,72 @@ public class CharSequenceIterator
         return () -> new CharSequenceIterator(charSequence, firstCharacterIndex, lastCharacterIndex);
     }
 
+    /**
+     * Returns a {@link CharIterable} creating {@link CharIterator}s over the characters of a {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to iterate
+     *
+     * @return {@link CharIterable} creating {@link CharIterator}s over the characters of {@code charSequence}
+     */
+    public static CharIterable charIterable(final CharSequence charSequence) {
+        return () -> new CharSequenceIterator(charSequence).asCharIterator();
+    }
+
+    /**
+     * Returns a {@link CharIterable} creating {@link CharIterator}s over the characters of the subsequence specified
+     * by the index of its first character (inclusive) contained by the specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to traverse
+     *
+     * @param firstCharacterIndex
+     *        integer specifying the index of the first character of the subsequence
+     *
+     * @return {@link CharIterable} creating {@link CharIterator}s over the characters of the subsequence
+     *
+     * @throws CharSequenceIndexOutOfBoundsException
+     *         if one of the following conditions is true:
+     *         <ul>
+     *             <li>{@code firstCharacterIndex < 0}</li>
+     *             <li>{@code firstCharacterIndex > charSequence.length() - 1}</li>
+     *         </ul>
+     */
+    public static CharIterable charIterable(final CharSequence charSequence, final int firstCharacterIndex)
+        throws CharSequenceIndexOutOfBoundsException {
+        return () -> new CharSequenceIterator(charSequence, firstCharacterIndex).asCharIterator();
+    }
+
+    /**
+     * Returns a {@link CharIterable} creating {@link CharIterator}s over the characters of the subsequence specified
+     * by the indices of its first and last characters (inclusive) contained by the specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to traverse
+     *
+     * @param firstCharacterIndex
+     *        integer specifying the index of the first character of the subsequence
+     *
+     * @param lastCharacterIndex
+     *        integer specifying the index of the last character of the subsequence
+     *
+     * @return {@link CharIterable} creating {@link CharIterator}s over the characters of the subsequence
+     *
+     * @throws CharSequenceIndexOutOfBoundsException
+     *         if one of the following conditions is true:
+     *         <ul>
+     *             <li>{@code firstCharacterIndex < 0}</li>
+     *             <li>{@code lastCharacterIndex < firstCharacterIndex}</li>
+     *             <li>{@code lastCharacterIndex > charSequence.length() - 1}</li>
+     *         </ul>
+     */
+    public static CharIterable charIterable(final CharSequence charSequence, final int firstCharacterIndex,
+                                            final int lastCharacterIndex)
+        throws CharSequenceIndexOutOfBoundsException {
+        return () -> new CharSequenceIterator(charSequence, firstCharacterIndex, lastCharacterIndex)
+            .asCharIterator();
+    }
+
     @Override
     public boolean hasNext() {
         return nextCharacterIndex <= lastCharacterIndex && nextCharacterIndex < charSequence.length();
@@ -211,10 +277,48 @@ public class CharSequenceIterator
 
     @Override
     public Character next() {
+        return nextChar();
+    }
+
+    /**
+     * Returns the next character without boxing it into a {@link Character}.
+     *
+     * @return next character
+     *
+     * @throws NoNextItemException
+     *         if there is no next character
+     */
+    public char nextChar() {
         if (! hasNext())
             throw new NoNextItemException("characterSequence", charSequence,
                                           message().with("nextCharacterIndex", nextCharacterIndex));
 
         return charSequence.charAt(nextCharacterIndex++);
     }
+
+    /**
+     * Returns a {@link CharIterator} view of this CharSequenceIterator. The view shares the position of this
+     * CharSequenceIterator and returns the characters without boxing them.
+     *
+     * @return {@link CharIterator} view of this CharSequenceIterator
+     */
+    public CharIterator asCharIterator() {
+        return new CharIterator() {
+
+            @Override
+            public boolean hasNext() {
+                return CharSequenceIterator.this.hasNext();
+            }
+
+            @Override
+            public char nextChar() {
+                return CharSequenceIterator.this.nextChar();
+            }
+
+            @Override
+            public void remove() {
+                CharSequenceIterator.this.remove();
+            }
+        };
+    }
 }
@@ -0,0 +1,304 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * <p>
+ * Parser of primitive numbers from a range of characters of a {@link CharSequence}, specified by its start index
+ * (inclusive) and its end index (exclusive), without creating a {@link String}.
+ * </p>
+ * <p>
+ * The accepted formats are those of {@link Integer#parseInt(String)}, {@link Long#parseLong(String)} and
+ * {@link Double#parseDouble(String)}. Doubles in plain decimal or scientific notation with at most 15 significant
+ * digits and a small exponent are computed directly and exactly; all other doubles are delegated to
+ * {@link Double#parseDouble(String)}.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+@UtilityClass
+public final class CharSequenceNumbers {
+
+    /** powers of ten represented exactly by a double */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Parses the int represented by the specified range of characters.
+     *
+     * @param charSequence
+     *        {@link CharSequence} containing the range
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the range
+     *
+     * @return parsed int
+     *
+     * @throws NumberFormatException
+     *         if the range does not represent an int
+     */
+    public static int parseInt(final CharSequence charSequence, final int startIndex, final int endIndex)
+        throws NumberFormatException {
+
+        return (int) parseLong(charSequence, startIndex, endIndex, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Parses the long represented by the specified range of characters.
+     *
+     * @param charSequence
+     *        {@link CharSequence} containing the range
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the range
+     *
+     * @return parsed long
+     *
+     * @throws NumberFormatException
+     *         if the range does not represent a long
+     */
+    public static long parseLong(final CharSequence charSequence, final int startIndex, final int endIndex)
+        throws NumberFormatException {
+
+        return parseLong(charSequence, startIndex, endIndex, Long.MIN_VALUE);
+    }
+
+    /**
+     * Parses the long represented by the specified range of characters, accumulating negatively to cover the
+     * minimum value.
+     *
+     * @param charSequence
+     *        {@link CharSequence} containing the range
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the range
+     *
+     * @param minimumValue
+     *        long specifying the minimum value; the negated minimum value minus one is the maximum value
+     *
+     * @return parsed long
+     *
+     * @throws NumberFormatException
+     *         if the range does not represent a long between the minimum and the maximum value
+     */
+    private static long parseLong(final CharSequence charSequence, final int startIndex, final int endIndex,
+                                  final long minimumValue)
+        throws NumberFormatException {
+
+        if (startIndex >= endIndex)
+            throw numberFormatException(charSequence, startIndex, endIndex);
+
+        int index = startIndex;
+        final char firstCharacter = charSequence.charAt(index);
+        final boolean negative = firstCharacter == '-';
+
+        if (negative || firstCharacter == '+') {
+            index++;
+            if (index == endIndex)
+                throw numberFormatException(charSequence, startIndex, endIndex);
+        }
+
+        final long limit = negative
+                           ? minimumValue
+                           : minimumValue + 1;
+        final long multiplicationLimit = limit / 10;
+        long negativeValue = 0;
+
+        for (; index < endIndex; index++) {
+            final int digit = charSequence.charAt(index) - '0';
+
+            if (digit < 0 || digit > 9 || negativeValue < multiplicationLimit)
+                throw numberFormatException(charSequence, startIndex, endIndex);
+
+            negativeValue *= 10;
+
+            if (negativeValue < limit + digit)
+                throw numberFormatException(charSequence, startIndex, endIndex);
+
+            negativeValue -= digit;
+        }
+
+        return negative
+               ? negativeValue
+               : - negativeValue;
+    }
+
+    /**
+     * Parses the double represented by the specified range of characters.
+     *
+     * @param charSequence
+     *        {@link CharSequence} containing the range
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the range
+     *
+     * @return parsed double
+     *
+     * @throws NumberFormatException
+     *         if the range does not represent a double
+     */
+    public static double parseDouble(final CharSequence charSequence, final int startIndex, final int endIndex)
+        throws NumberFormatException {
+
+        int index = startIndex;
+
+        final boolean negative = index < endIndex && charSequence.charAt(index) == '-';
+        if (negative || index < endIndex && charSequence.charAt(index) == '+')
+            index++;
+
+        long mantissa = 0;
+        int significantDigitCount = 0;
+        int digitCount = 0;
+        int exponent = 0;
+        boolean decimalSeparatorFound = false;
+
+        for (; index < endIndex; index++) {
+            final char character = charSequence.charAt(index);
+
+            if (character == '.' && ! decimalSeparatorFound) {
+                decimalSeparatorFound = true;
+                continue;
+            }
+
+            final int digit = character - '0';
+            if (digit < 0 || digit > 9)
+                break;
+
+            digitCount++;
+
+            if (mantissa != 0 || digit != 0)
+                significantDigitCount++;
+
+            if (significantDigitCount > 15)
+                return parseDoubleString(charSequence, startIndex, endIndex);
+
+            mantissa = 10 * mantissa + digit;
+
+            if (decimalSeparatorFound)
+                exponent--;
+        }
+
+        if (digitCount == 0)
+            return parseDoubleString(charSequence, startIndex, endIndex);
+
+        if (index < endIndex) {
+            final char exponentCharacter = charSequence.charAt(index);
+            if (exponentCharacter != 'e' && exponentCharacter != 'E')
+                return parseDoubleString(charSequence, startIndex, endIndex);
+
+            index++;
+
+            final boolean negativeExponent = index < endIndex && charSequence.charAt(index) == '-';
+            if (negativeExponent || index < endIndex && charSequence.charAt(index) == '+')
+                index++;
+
+            if (index == endIndex || endIndex - index > 3)
+                return parseDoubleString(charSequence, startIndex, endIndex);
+
+            int explicitExponent = 0;
+            for (; index < endIndex; index++) {
+                final int digit = charSequence.charAt(index) - '0';
+                if (digit < 0 || digit > 9)
+                    return parseDoubleString(charSequence, startIndex, endIndex);
+
+                explicitExponent = 10 * explicitExponent + digit;
+            }
+
+            exponent += negativeExponent
+                        ? - explicitExponent
+                        : explicitExponent;
+        }
+
+        // at most 15 significant digits are exact, as are the powers of ten up to 22
+        if (exponent < - 22 || exponent > 22)
+            return parseDoubleString(charSequence, startIndex, endIndex);
+
+        final double value = exponent < 0
+                             ? mantissa / EXACT_POWERS_OF_TEN[- exponent]
+                             : mantissa * EXACT_POWERS_OF_TEN[exponent];
+
+        return negative
+               ? - value
+               : value;
+    }
+
+    /**
+     * Parses the double represented by the specified range of characters using {@link Double#parseDouble(String)}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} containing the range
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the range
+     *
+     * @return parsed double
+     *
+     * @throws NumberFormatException
+     *         if the range does not represent a double
+     */
+    private static double parseDoubleString(final CharSequence charSequence, final int startIndex,
+                                            final int endIndex)
+        throws NumberFormatException {
+
+        return Double.parseDouble(charSequence.subSequence(startIndex, endIndex).toString());
+    }
+
+    /**
+     * Creates a {@link NumberFormatException} for the specified range of characters.
+     *
+     * @param charSequence
+     *        {@link CharSequence} containing the range
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the range
+     *
+     * @return the newly created {@link NumberFormatException}
+     */
+    private static NumberFormatException numberFormatException(final CharSequence charSequence, final int startIndex,
+                                                               final int endIndex) {
+        return new NumberFormatException("For input string: \"" + charSequence.subSequence(startIndex, endIndex) +
+                                         '"');
+    }
+}
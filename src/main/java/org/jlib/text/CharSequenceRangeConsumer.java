@@ -0,0 +1,44 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+/**
+ * Consumer of a range of characters of a {@link CharSequence}, specified by its start index (inclusive) and its end
+ * index (exclusive), allowing to process the range without creating a {@link String}.
+ *
+ * @author Igor Akkerman
+ */
+@FunctionalInterface
+public interface CharSequenceRangeConsumer {
+
+    /**
+     * Processes the specified range of characters.
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the range
+     */
+    void accept(int startIndex, int endIndex);
+}
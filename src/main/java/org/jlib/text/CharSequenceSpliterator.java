@@ -0,0 +1,212 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import static org.jlib.message.Messages.message;
+
+/**
+ * <p>
+ * {@link Spliterator.OfInt} over the characters of a {@link CharSequence}, reporting its exact size and splitting
+ * evenly in halves, thus allowing parallel streams over the characters to scale with the available processors.
+ * </p>
+ * <p>
+ * The {@link CharSequence} must not be modified while being traversed.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public class CharSequenceSpliterator
+    implements Spliterator.OfInt {
+
+    /** characteristics of every CharSequenceSpliterator */
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL;
+
+    /** {@link CharSequence} traversed by this CharSequenceSpliterator */
+    private final CharSequence charSequence;
+
+    /** index of next traversed character */
+    private int nextCharacterIndex;
+
+    /** index after the last traversed character */
+    private final int fenceIndex;
+
+    /**
+     * Creates a new CharSequenceSpliterator over the characters of the specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to traverse
+     */
+    public CharSequenceSpliterator(final CharSequence charSequence) {
+        this(0, charSequence.length(), charSequence);
+    }
+
+    /**
+     * Creates a new CharSequenceSpliterator over the characters of the subsequence specified by the index of its
+     * first character (inclusive) contained by the specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to traverse
+     *
+     * @param firstCharacterIndex
+     *        integer specifying the index of the first character of the subsequence
+     *
+     * @throws CharSequenceIndexOutOfBoundsException
+     *         if one of the following conditions is true:
+     *         <ul>
+     *             <li>{@code firstCharacterIndex < 0}</li>
+     *             <li>{@code firstCharacterIndex > charSequence.length() - 1}</li>
+     *         </ul>
+     */
+    public CharSequenceSpliterator(final CharSequence charSequence, final int firstCharacterIndex)
+        throws CharSequenceIndexOutOfBoundsException {
+
+        this(charSequence, firstCharacterIndex, charSequence.length() - 1);
+    }
+
+    /**
+     * Creates a new CharSequenceSpliterator over the characters of the subsequence specified by the indices of its
+     * first and last characters (inclusive) contained by the specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to traverse
+     *
+     * @param firstCharacterIndex
+     *        integer specifying the index of the first character of the subsequence
+     *
+     * @param lastCharacterIndex
+     *        integer specifying the index of the last character of the subsequence
+     *
+     * @throws CharSequenceIndexOutOfBoundsException
+     *         if one of the following conditions is true:
+     *         <ul>
+     *             <li>{@code firstCharacterIndex < 0}</li>
+     *             <li>{@code lastCharacterIndex < firstCharacterIndex}</li>
+     *             <li>{@code lastCharacterIndex > charSequence.length() - 1}</li>
+     *         </ul>
+     */
+    public CharSequenceSpliterator(final CharSequence charSequence, final int firstCharacterIndex,
+                                   final int lastCharacterIndex)
+        throws CharSequenceIndexOutOfBoundsException {
+
+        this(firstCharacterIndex, fenceIndex(charSequence, firstCharacterIndex, lastCharacterIndex), charSequence);
+    }
+
+    /**
+     * Creates a new CharSequenceSpliterator over the characters of the specified range without verifying it.
+     *
+     * @param nextCharacterIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param fenceIndex
+     *        integer specifying the index after the last character of the range
+     *
+     * @param charSequence
+     *        {@link CharSequence} to traverse
+     */
+    private CharSequenceSpliterator(final int nextCharacterIndex, final int fenceIndex,
+                                    final CharSequence charSequence) {
+        this.charSequence = charSequence;
+        this.nextCharacterIndex = nextCharacterIndex;
+        this.fenceIndex = fenceIndex;
+    }
+
+    /**
+     * Verifies the specified indices of the first and last characters of a subsequence and returns the index after
+     * the last character.
+     *
+     * @param charSequence
+     *        {@link CharSequence} containing the subsequence
+     *
+     * @param firstCharacterIndex
+     *        integer specifying the index of the first character of the subsequence
+     *
+     * @param lastCharacterIndex
+     *        integer specifying the index of the last character of the subsequence
+     *
+     * @return integer specifying the index after the last character of the subsequence
+     *
+     * @throws CharSequenceIndexOutOfBoundsException
+     *         if the indices are invalid
+     */
+    private static int fenceIndex(final CharSequence charSequence, final int firstCharacterIndex,
+                                  final int lastCharacterIndex)
+        throws CharSequenceIndexOutOfBoundsException {
+
+        Text.ensureIndicesValid(charSequence, firstCharacterIndex, lastCharacterIndex);
+
+        if (lastCharacterIndex > charSequence.length() - 1)
+            throw new CharSequenceIndexOutOfBoundsException(charSequence,
+                                                            message().with("lastCharacterIndex", lastCharacterIndex));
+
+        return lastCharacterIndex + 1;
+    }
+
+    @Override
+    public OfInt trySplit() {
+        final int splitCharacterIndex = (nextCharacterIndex + fenceIndex) >>> 1;
+
+        if (splitCharacterIndex <= nextCharacterIndex)
+            return null;
+
+        final CharSequenceSpliterator prefixSpliterator =
+            new CharSequenceSpliterator(nextCharacterIndex, splitCharacterIndex, charSequence);
+
+        nextCharacterIndex = splitCharacterIndex;
+
+        return prefixSpliterator;
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer characterConsumer) {
+        if (nextCharacterIndex >= fenceIndex)
+            return false;
+
+        characterConsumer.accept(charSequence.charAt(nextCharacterIndex++));
+
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer characterConsumer) {
+        final CharSequence charSequence = this.charSequence;
+        final int fenceIndex = this.fenceIndex;
+
+        for (int characterIndex = nextCharacterIndex; characterIndex < fenceIndex; characterIndex++)
+            characterConsumer.accept(charSequence.charAt(characterIndex));
+
+        nextCharacterIndex = fenceIndex;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fenceIndex - nextCharacterIndex;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import static org.jlib.message.Messages.message;
+
+/**
+ * <p>
+ * Read-only view of a range of characters of a {@link CharSequence}, specified by its start index (inclusive) and
+ * its end index (exclusive). No characters are copied unless {@link #toString()} is called.
+ * </p>
+ * <p>
+ * Like the views of {@link java.util.List#subList(int, int)}, a CharSequenceView reflects the current characters of
+ * the viewed {@link CharSequence}, which should not change its length while being viewed. Two CharSequenceViews are
+ * equal if they contain the same characters; the hash code is the same as the one of the equal {@link String}.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class CharSequenceView
+    implements CharSequence {
+
+    /** viewed {@link CharSequence} */
+    private final CharSequence charSequence;
+
+    /** index of the first viewed character */
+    private final int startIndex;
+
+    /** index after the last viewed character */
+    private final int endIndex;
+
+    /**
+     * Creates a new CharSequenceView.
+     *
+     * @param charSequence
+     *        viewed {@link CharSequence}
+     *
+     * @param startIndex
+     *        integer specifying the index of the first viewed character
+     *
+     * @param endIndex
+     *        integer specifying the index after the last viewed character
+     *
+     * @throws CharSequenceIndexOutOfBoundsException
+     *         if one of the following conditions is true:
+     *         <ul>
+     *             <li>{@code startIndex < 0}</li>
+     *             <li>{@code endIndex < startIndex}</li>
+     *             <li>{@code endIndex > charSequence.length()}</li>
+     *         </ul>
+     */
+    public CharSequenceView(final CharSequence charSequence, final int startIndex, final int endIndex)
+        throws CharSequenceIndexOutOfBoundsException {
+
+        if (startIndex < 0 || endIndex < startIndex || endIndex > charSequence.length())
+            throw new CharSequenceIndexOutOfBoundsException(charSequence, message().with("startIndex", startIndex)
+                                                                                   .with("endIndex", endIndex));
+
+        this.charSequence = charSequence;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    @Override
+    public int length() {
+        return endIndex - startIndex;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= endIndex - startIndex)
+            throw new CharSequenceIndexOutOfBoundsException(this, message().with("index", index));
+
+        return charSequence.charAt(startIndex + index);
+    }
+
+    @Override
+    public CharSequenceView subSequence(final int subSequenceStartIndex, final int subSequenceEndIndex) {
+        if (subSequenceStartIndex < 0 || subSequenceEndIndex < subSequenceStartIndex ||
+            subSequenceEndIndex > endIndex - startIndex)
+            throw new CharSequenceIndexOutOfBoundsException(this,
+                                                            message().with("startIndex", subSequenceStartIndex)
+                                                                     .with("endIndex", subSequenceEndIndex));
+
+        return new CharSequenceView(charSequence, startIndex + subSequenceStartIndex,
+                                    startIndex + subSequenceEndIndex);
+    }
+
+    /**
+     * Verifies whether this CharSequenceView contains the same characters as the specified {@link CharSequence}.
+     *
+     * @param otherCharSequence
+     *        {@link CharSequence} to compare
+     *
+     * @return {@code true} if this CharSequenceView and {@code otherCharSequence} contain the same characters;
+     *         {@code false} otherwise
+     */
+    public boolean contentEquals(final CharSequence otherCharSequence) {
+        final int length = endIndex - startIndex;
+
+        if (otherCharSequence.length() != length)
+            return false;
+
+        for (int index = 0; index < length; index++)
+            if (charSequence.charAt(startIndex + index) != otherCharSequence.charAt(index))
+                return false;
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object otherObject) {
+        return otherObject instanceof CharSequenceView && contentEquals((CharSequenceView) otherObject);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+
+        for (int index = startIndex; index < endIndex; index++)
+            hashCode = 31 * hashCode + charSequence.charAt(index);
+
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return charSequence.subSequence(startIndex, endIndex).toString();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+/**
+ * {@link Splitter} using each character of a set as a single character delimiter.
+ *
+ * @author Igor Akkerman
+ */
+final class CharacterSetSplitter
+    extends Splitter {
+
+    /** bit mask of the delimiter characters from {@code 0} to {@code 63} */
+    private final long lowDelimiterMask;
+
+    /** bit mask of the delimiter characters from {@code 64} to {@code 127} */
+    private final long highDelimiterMask;
+
+    /** array of the non-ASCII delimiter characters */
+    private final char[] nonAsciiDelimiters;
+
+    /**
+     * Creates a new CharacterSetSplitter.
+     *
+     * @param delimiters
+     *        array of delimiter characters
+     */
+    CharacterSetSplitter(final char... delimiters) {
+        long lowDelimiterMask = 0;
+        long highDelimiterMask = 0;
+        final StringBuilder nonAsciiDelimitersBuilder = new StringBuilder();
+
+        for (final char delimiter : delimiters)
+            if (delimiter < 64)
+                lowDelimiterMask |= 1L << delimiter;
+            else if (delimiter < 128)
+                highDelimiterMask |= 1L << (delimiter - 64);
+            else
+                nonAsciiDelimitersBuilder.append(delimiter);
+
+        this.lowDelimiterMask = lowDelimiterMask;
+        this.highDelimiterMask = highDelimiterMask;
+        nonAsciiDelimiters = nonAsciiDelimitersBuilder.toString().toCharArray();
+    }
+
+    @Override
+    protected int delimiterIndex(final CharSequence compositeCharSequence, final int fromIndex) {
+        final int length = compositeCharSequence.length();
+
+        for (int characterIndex = fromIndex; characterIndex < length; characterIndex++)
+            if (isDelimiter(compositeCharSequence.charAt(characterIndex)))
+                return characterIndex;
+
+        return - 1;
+    }
+
+    /**
+     * Verifies whether the specified character is a delimiter.
+     *
+     * @param character
+     *        verified character
+     *
+     * @return {@code true} if {@code character} is a delimiter; {@code false} otherwise
+     */
+    private boolean isDelimiter(final char character) {
+        if (character < 64)
+            return (lowDelimiterMask & 1L << character) != 0;
+
+        if (character < 128)
+            return (highDelimiterMask & 1L << (character - 64)) != 0;
+
+        for (final char nonAsciiDelimiter : nonAsciiDelimiters)
+            if (character == nonAsciiDelimiter)
+                return true;
+
+        return false;
+    }
+
+    @Override
+    protected int delimiterLength(final CharSequence compositeCharSequence, final int delimiterIndex) {
+        return 1;
+    }
+}
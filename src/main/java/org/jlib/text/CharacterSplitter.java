@@ -0,0 +1,63 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+/**
+ * {@link Splitter} using a single literal delimiter character.
+ *
+ * @author Igor Akkerman
+ */
+final class CharacterSplitter
+    extends Splitter {
+
+    /** delimiter character */
+    private final char delimiter;
+
+    /**
+     * Creates a new CharacterSplitter.
+     *
+     * @param delimiter
+     *        delimiter character
+     */
+    CharacterSplitter(final char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    protected int delimiterIndex(final CharSequence compositeCharSequence, final int fromIndex) {
+        if (compositeCharSequence instanceof String)
+            return ((String) compositeCharSequence).indexOf(delimiter, fromIndex);
+
+        final int length = compositeCharSequence.length();
+        for (int characterIndex = fromIndex; characterIndex < length; characterIndex++)
+            if (compositeCharSequence.charAt(characterIndex) == delimiter)
+                return characterIndex;
+
+        return - 1;
+    }
+
+    @Override
+    protected int delimiterLength(final CharSequence compositeCharSequence, final int delimiterIndex) {
+        return 1;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Provider of {@link CodePointIterator}s over the Unicode code points of a sequence of characters.
+ *
+ * @author Igor Akkerman
+ */
+@FunctionalInterface
+public interface CodePointIterable {
+
+    /**
+     * Returns a new {@link CodePointIterator} over the code points.
+     *
+     * @return {@link CodePointIterator} over the code points
+     */
+    CodePointIterator codePointIterator();
+
+    /**
+     * Passes each code point to the specified {@link IntConsumer}.
+     *
+     * @param codePointConsumer
+     *        {@link IntConsumer} of the code points
+     */
+    default void forEachCodePoint(final IntConsumer codePointConsumer) {
+        codePointIterator().forEachRemaining(codePointConsumer);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+import org.jlib.iterable.NoNextItemException;
+
+import static java.lang.Character.isHighSurrogate;
+import static java.lang.Character.isLowSurrogate;
+import static java.lang.Character.isSurrogate;
+import static java.lang.Character.toCodePoint;
+import static org.jlib.message.Messages.message;
+
+/**
+ * <p>
+ * Iterator over the Unicode code points of a {@link CharSequence}. Unlike a {@link CharSequenceIterator}, a
+ * CodePointIterator returns a supplementary character, represented by a surrogate pair, as a single code point.
+ * An unpaired surrogate is returned as is.
+ * </p>
+ * <p>
+ * The {@link CharSequence} is checked once for surrogates when the CodePointIterator is created. If it contains none,
+ * as is the case for ASCII or other Basic Multilingual Plane text, each character is returned directly without
+ * surrogate decoding.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public class CodePointIterator
+    implements PrimitiveIterator.OfInt {
+
+    /** {@link CharSequence} iterated by this CodePointIterator */
+    private final CharSequence charSequence;
+
+    /** index of the next iterated character */
+    private int nextCharacterIndex;
+
+    /** index after the last iterated character */
+    private final int fenceIndex;
+
+    /** {@code true} if the iterated characters contain surrogates */
+    private final boolean surrogatesPresent;
+
+    /**
+     * Creates a new CodePointIterator over the code points of the specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to iterate
+     */
+    public CodePointIterator(final CharSequence charSequence) {
+        this.charSequence = charSequence;
+        nextCharacterIndex = 0;
+        fenceIndex = charSequence.length();
+        surrogatesPresent = containsSurrogates(charSequence, 0, fenceIndex);
+    }
+
+    /**
+     * Creates a new CodePointIterator over the code points of the subsequence specified by the index of its first
+     * character (inclusive) contained by the specified {@link CharSequence}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to iterate
+     *
+     * @param firstCharacterIndex
+     *        integer specifying the index of the first character of the subsequence
+     *
+     * @throws CharSequenceIndexOutOfBoundsException
+     *         if one of the following conditions is true:
+     *         <ul>
+     *             <li>{@code firstCharacterIndex < 0}</li>
+     *             <li>{@code firstCharacterIndex > charSequence.length() - 1}</li>
+     *         </ul>
+     */
+    public CodePointIterator(final CharSequence charSequence, final int firstCharacterIndex)
+        throws CharSequenceIndexOutOfBoundsException {
+
+        this(charSequence, firstCharacterIndex, charSequence.length() - 1);
+    }
+
+    /**
+     * Creates a new CodePointIterator over the code points of the subsequence specified by the indices of its first
+     * and last characters (inclusive) contained by the specified {@link CharSequence}. A surrogate pair is only
+     * decoded if both its characters are part of the subsequence.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to iterate
+     *
+     * @param firstCharacterIndex
+     *        integer specifying the index of the first character of the subsequence
+     *
+     * @param lastCharacterIndex
+     *        integer specifying the index of the last character of the subsequence
+     *
+     * @throws CharSequenceIndexOutOfBoundsException
+     *         if one of the following conditions is true:
+     *         <ul>
+     *             <li>{@code firstCharacterIndex < 0}</li>
+     *             <li>{@code lastCharacterIndex < firstCharacterIndex}</li>
+     *             <li>{@code lastCharacterIndex > charSequence.length() - 1}</li>
+     *         </ul>
+     */
+    public CodePointIterator(final CharSequence charSequence, final int firstCharacterIndex,
+                             final int lastCharacterIndex)
+        throws CharSequenceIndexOutOfBoundsException {
+
+        Text.ensureIndicesValid(charSequence, firstCharacterIndex, lastCharacterIndex);
+
+        if (lastCharacterIndex > charSequence.length() - 1)
+            throw new CharSequenceIndexOutOfBoundsException(charSequence,
+                                                            message().with("lastCharacterIndex", lastCharacterIndex));
+
+        this.charSequence = charSequence;
+        nextCharacterIndex = firstCharacterIndex;
+        fenceIndex = lastCharacterIndex + 1;
+        surrogatesPresent = containsSurrogates(charSequence, firstCharacterIndex, fenceIndex);
+    }
+
+    /**
+     * Verifies whether the specified range of characters contains a surrogate.
+     *
+     * @param charSequence
+     *        {@link CharSequence} containing the range
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the range
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the range
+     *
+     * @return {@code true} if the range contains a surrogate; {@code false} otherwise
+     */
+    static boolean containsSurrogates(final CharSequence charSequence, final int startIndex, final int endIndex) {
+        for (int characterIndex = startIndex; characterIndex < endIndex; characterIndex++)
+            if (isSurrogate(charSequence.charAt(characterIndex)))
+                return true;
+
+        return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextCharacterIndex < fenceIndex;
+    }
+
+    @Override
+    public int nextInt() {
+        if (nextCharacterIndex >= fenceIndex)
+            throw new NoNextItemException("characterSequence", charSequence,
+                                          message().with("nextCharacterIndex", nextCharacterIndex));
+
+        final char character = charSequence.charAt(nextCharacterIndex++);
+
+        if (! surrogatesPresent)
+            return character;
+
+        return decode(character);
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer codePointConsumer) {
+        final CharSequence charSequence = this.charSequence;
+        final int fenceIndex = this.fenceIndex;
+
+        if (! surrogatesPresent) {
+            for (int characterIndex = nextCharacterIndex; characterIndex < fenceIndex; characterIndex++)
+                codePointConsumer.accept(charSequence.charAt(characterIndex));
+
+            nextCharacterIndex = fenceIndex;
+            return;
+        }
+
+        while (nextCharacterIndex < fenceIndex)
+            codePointConsumer.accept(decode(charSequence.charAt(nextCharacterIndex++)));
+    }
+
+    /**
+     * Decodes the code point starting with the specified character, just read, consuming its low surrogate, if any.
+     *
+     * @param character
+     *        character just read
+     *
+     * @return decoded code point
+     */
+    private int decode(final char character) {
+        if (isHighSurrogate(character) && nextCharacterIndex < fenceIndex) {
+            final char lowSurrogate = charSequence.charAt(nextCharacterIndex);
+
+            if (isLowSurrogate(lowSurrogate)) {
+                nextCharacterIndex++;
+                return toCodePoint(character, lowSurrogate);
+            }
+        }
+
+        return character;
+    }
+}
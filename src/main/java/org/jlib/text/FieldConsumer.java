@@ -0,0 +1,114 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import static org.jlib.text.CharSequenceNumbers.parseDouble;
+import static org.jlib.text.CharSequenceNumbers.parseInt;
+import static org.jlib.text.CharSequenceNumbers.parseLong;
+
+/**
+ * Consumer of a field of a composite {@link CharSequence}, specified by the range of its characters. The field may be
+ * parsed directly from the composite {@link CharSequence} without creating a {@link String}.
+ *
+ * @author Igor Akkerman
+ */
+@FunctionalInterface
+public interface FieldConsumer {
+
+    /**
+     * Processes the specified field.
+     *
+     * @param compositeCharSequence
+     *        {@link CharSequence} containing the field
+     *
+     * @param startIndex
+     *        integer specifying the index of the first character of the field
+     *
+     * @param endIndex
+     *        integer specifying the index after the last character of the field
+     */
+    void accept(CharSequence compositeCharSequence, int startIndex, int endIndex);
+
+    /**
+     * Returns a FieldConsumer passing the field as {@link String} to the specified {@link Consumer}.
+     *
+     * @param stringConsumer
+     *        {@link Consumer} of the field
+     *
+     * @return FieldConsumer delegating to {@code stringConsumer}
+     */
+    static FieldConsumer ofString(final Consumer<String> stringConsumer) {
+        return (compositeCharSequence, startIndex, endIndex) ->
+            stringConsumer.accept(compositeCharSequence.subSequence(startIndex, endIndex).toString());
+    }
+
+    /**
+     * Returns a FieldConsumer parsing the field as int and passing it to the specified {@link IntConsumer}.
+     *
+     * @param intConsumer
+     *        {@link IntConsumer} of the field
+     *
+     * @return FieldConsumer delegating to {@code intConsumer}
+     *
+     * @see CharSequenceNumbers#parseInt(CharSequence, int, int)
+     */
+    static FieldConsumer ofInt(final IntConsumer intConsumer) {
+        return (compositeCharSequence, startIndex, endIndex) ->
+            intConsumer.accept(parseInt(compositeCharSequence, startIndex, endIndex));
+    }
+
+    /**
+     * Returns a FieldConsumer parsing the field as long and passing it to the specified {@link LongConsumer}.
+     *
+     * @param longConsumer
+     *        {@link LongConsumer} of the field
+     *
+     * @return FieldConsumer delegating to {@code longConsumer}
+     *
+     * @see CharSequenceNumbers#parseLong(CharSequence, int, int)
+     */
+    static FieldConsumer ofLong(final LongConsumer longConsumer) {
+        return (compositeCharSequence, startIndex, endIndex) ->
+            longConsumer.accept(parseLong(compositeCharSequence, startIndex, endIndex));
+    }
+
+    /**
+     * Returns a FieldConsumer parsing the field as double and passing it to the specified {@link DoubleConsumer}.
+     *
+     * @param doubleConsumer
+     *        {@link DoubleConsumer} of the field
+     *
+     * @return FieldConsumer delegating to {@code doubleConsumer}
+     *
+     * @see CharSequenceNumbers#parseDouble(CharSequence, int, int)
+     */
+    static FieldConsumer ofDouble(final DoubleConsumer doubleConsumer) {
+        return (compositeCharSequence, startIndex, endIndex) ->
+            doubleConsumer.accept(parseDouble(compositeCharSequence, startIndex, endIndex));
+    }
+}
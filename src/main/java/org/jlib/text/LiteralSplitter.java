@@ -0,0 +1,75 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+/**
+ * {@link Splitter} using a literal delimiter of at least two characters.
+ *
+ * @author Igor Akkerman
+ */
+final class LiteralSplitter
+    extends Splitter {
+
+    /** literal delimiter */
+    private final String delimiter;
+
+    /**
+     * Creates a new LiteralSplitter.
+     *
+     * @param delimiter
+     *        {@link String} specifying the literal delimiter
+     */
+    LiteralSplitter(final String delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    protected int delimiterIndex(final CharSequence compositeCharSequence, final int fromIndex) {
+        if (compositeCharSequence instanceof String)
+            return ((String) compositeCharSequence).indexOf(delimiter, fromIndex);
+
+        final char firstDelimiterCharacter = delimiter.charAt(0);
+        final int delimiterLength = delimiter.length();
+        final int lastCandidateIndex = compositeCharSequence.length() - delimiterLength;
+
+        candidates:
+        for (int candidateIndex = fromIndex; candidateIndex <= lastCandidateIndex; candidateIndex++) {
+            if (compositeCharSequence.charAt(candidateIndex) != firstDelimiterCharacter)
+                continue;
+
+            for (int delimiterCharacterIndex = 1; delimiterCharacterIndex < delimiterLength; delimiterCharacterIndex++)
+                if (compositeCharSequence.charAt(candidateIndex + delimiterCharacterIndex) !=
+                    delimiter.charAt(delimiterCharacterIndex))
+                    continue candidates;
+
+            return candidateIndex;
+        }
+
+        return - 1;
+    }
+
+    @Override
+    protected int delimiterLength(final CharSequence compositeCharSequence, final int delimiterIndex) {
+        return delimiter.length();
+    }
+}
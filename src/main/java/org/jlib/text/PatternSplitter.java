@@ -0,0 +1,164 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * {@link Splitter} using the matches of a {@link Pattern} as delimiters.
+ * </p>
+ * <p>
+ * The matches are found as by {@link Pattern#split(CharSequence)}: during a scan, the {@link Matcher} proceeds from
+ * match to match, so a zero-width match directly following another match is a delimiter, too. Only a zero-width match
+ * at the start of the {@link CharSequence} is ignored.
+ * </p>
+ * <p>
+ * Each {@link Thread} reuses its own {@link Matcher}s, one for each nesting depth of the scans, so an element
+ * consumer may split using the same PatternSplitter.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+final class PatternSplitter
+    extends Splitter {
+
+    /**
+     * {@link Matcher} of a {@link Thread} at one nesting depth and the state of its current scan.
+     */
+    private static final class Scan {
+
+        /** {@link Matcher} of the scan */
+        private final Matcher matcher;
+
+        /** scanned {@link CharSequence}; {@code null} if no match has been searched yet */
+        private CharSequence compositeCharSequence;
+
+        /** start index of the last match */
+        private int matchStartIndex;
+
+        /** end index of the last match; {@code -1} if no match has been found */
+        private int matchEndIndex = - 1;
+
+        private Scan(final Matcher matcher) {
+            this.matcher = matcher;
+        }
+    }
+
+    /**
+     * {@link Scan}s of a {@link Thread}, one for each nesting depth.
+     */
+    private static final class Scans {
+
+        /** {@link Scan}s by nesting depth; created on first use */
+        private Scan[] scans = new Scan[1];
+
+        /** number of active {@link Scan}s */
+        private int depth;
+    }
+
+    /** {@link Pattern} matching the delimiters */
+    private final Pattern pattern;
+
+    /** {@link Scans} of the current {@link Thread} */
+    private final ThreadLocal<Scans> threadScans = ThreadLocal.withInitial(Scans::new);
+
+    /**
+     * Creates a new PatternSplitter.
+     *
+     * @param pattern
+     *        {@link Pattern} matching the delimiters
+     */
+    PatternSplitter(final Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    @Override
+    protected void scanStarted() {
+        final Scans scans = threadScans.get();
+
+        if (scans.depth == scans.scans.length)
+            scans.scans = Arrays.copyOf(scans.scans, 2 * scans.depth);
+
+        if (scans.scans[scans.depth] == null)
+            scans.scans[scans.depth] = new Scan(pattern.matcher(Text.EMPTY));
+
+        scans.depth++;
+    }
+
+    private Scan currentScan() {
+        final Scans scans = threadScans.get();
+
+        if (scans.depth == 0)
+            throw new IllegalStateException("No scan started.");
+
+        return scans.scans[scans.depth - 1];
+    }
+
+    @Override
+    protected int delimiterIndex(final CharSequence compositeCharSequence, final int fromIndex) {
+        final Scan scan = currentScan();
+        final Matcher matcher = scan.matcher;
+
+        boolean found;
+        if (scan.compositeCharSequence == compositeCharSequence && scan.matchEndIndex == fromIndex)
+            // continue after the last match, skipping a character if it has been zero-width
+            found = matcher.find();
+        else {
+            scan.compositeCharSequence = compositeCharSequence;
+            found = matcher.reset(compositeCharSequence).find(fromIndex);
+        }
+
+        // zero-width match at the start of the CharSequence
+        if (found && matcher.end() == 0)
+            found = matcher.find();
+
+        if (! found) {
+            scan.matchEndIndex = - 1;
+            return - 1;
+        }
+
+        scan.matchStartIndex = matcher.start();
+        scan.matchEndIndex = matcher.end();
+        return scan.matchStartIndex;
+    }
+
+    @Override
+    protected int delimiterLength(final CharSequence compositeCharSequence, final int delimiterIndex) {
+        final Scan scan = currentScan();
+        return scan.matchEndIndex - scan.matchStartIndex;
+    }
+
+    @Override
+    protected void scanFinished() {
+        final Scans scans = threadScans.get();
+        final Scan scan = scans.scans[-- scans.depth];
+
+        // release the scanned CharSequence
+        scan.matcher.reset(Text.EMPTY);
+        scan.compositeCharSequence = null;
+        scan.matchEndIndex = - 1;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Reusable splitter of {@link CharSequence}s into their elements separated by a delimiter.
+ * A Splitter is created once for a literal delimiter, a set of delimiter characters or a {@link Pattern} and may then
+ * be shared by any number of threads.
+ * </p>
+ * <p>
+ * The elements are determined as by {@link String#split(String)}: trailing empty elements are dropped and a
+ * {@link CharSequence} containing no delimiter consists of exactly one element, itself.
+ * </p>
+ * <p>
+ * Unlike {@link String#split(String)}, the literal and character set Splitters scan the {@link CharSequence} by index
+ * without using regular expressions, and no intermediate array of elements is created.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public abstract class Splitter {
+
+    /** regular expression meta characters */
+    private static final String REGEX_META_CHARACTERS = ".$|()[{^?*+\\";
+
+    /**
+     * Returns a Splitter using the specified literal delimiter character.
+     *
+     * @param delimiter
+     *        delimiter character
+     *
+     * @return Splitter using {@code delimiter}
+     */
+    public static Splitter on(final char delimiter) {
+        return new CharacterSplitter(delimiter);
+    }
+
+    /**
+     * Returns a Splitter using the specified literal delimiter. The delimiter is <em>not</em> interpreted as a regular
+     * expression.
+     *
+     * @param delimiter
+     *        {@link CharSequence} specifying the literal delimiter
+     *
+     * @return Splitter using {@code delimiter}
+     *
+     * @throws IllegalArgumentException
+     *         if {@code delimiter} is empty
+     */
+    public static Splitter on(final CharSequence delimiter) {
+        if (delimiter.length() == 0)
+            throw new IllegalArgumentException("Empty delimiter.");
+
+        return delimiter.length() == 1
+               ? new CharacterSplitter(delimiter.charAt(0))
+               : new LiteralSplitter(delimiter.toString());
+    }
+
+    /**
+     * Returns a Splitter using each of the specified characters as a single character delimiter.
+     *
+     * @param delimiters
+     *        array of delimiter characters
+     *
+     * @return Splitter using the characters of {@code delimiters}
+     *
+     * @throws IllegalArgumentException
+     *         if {@code delimiters} is empty
+     */
+    public static Splitter onAnyOf(final char... delimiters) {
+        if (delimiters.length == 0)
+            throw new IllegalArgumentException("No delimiters.");
+
+        return delimiters.length == 1
+               ? new CharacterSplitter(delimiters[0])
+               : new CharacterSetSplitter(delimiters);
+    }
+
+    /**
+     * Returns a Splitter using the matches of the specified {@link Pattern} as delimiters.
+     *
+     * @param pattern
+     *        {@link Pattern} matching the delimiters
+     *
+     * @return Splitter using {@code pattern}
+     */
+    public static Splitter on(final Pattern pattern) {
+        return new PatternSplitter(pattern);
+    }
+
+    /**
+     * Returns a Splitter using the matches of the specified regular expression as delimiters. A regular expression
+     * consisting of a literal character sequence, possibly using escaped meta characters, is scanned literally.
+     *
+     * @param regex
+     *        {@link String} specifying the regular expression
+     *
+     * @return Splitter using {@code regex}
+     *
+     * @throws java.util.regex.PatternSyntaxException
+     *         if {@code regex} is not a valid regular expression
+     */
+    public static Splitter onRegex(final String regex) {
+        final String literal = literalOf(regex);
+
+        return literal != null && ! literal.isEmpty()
+               ? on(literal)
+               : on(Text.pattern(regex));
+    }
+
+    /**
+     * Returns the literal character sequence matched by the specified regular expression.
+     *
+     * @param regex
+     *        {@link String} specifying the regular expression
+     *
+     * @return {@link String} specifying the literal character sequence;
+     *         {@code null} if {@code regex} contains an unescaped meta character or any other escape sequence
+     */
+    private static String literalOf(final String regex) {
+        StringBuilder literalBuilder = null;
+
+        for (int regexIndex = 0; regexIndex < regex.length(); regexIndex++) {
+            final char regexCharacter = regex.charAt(regexIndex);
+
+            if (regexCharacter == '\\') {
+                if (regexIndex + 1 == regex.length())
+                    return null;
+
+                final char escapedCharacter = regex.charAt(regexIndex + 1);
+                if (REGEX_META_CHARACTERS.indexOf(escapedCharacter) < 0)
+                    return null;
+
+                if (literalBuilder == null)
+                    literalBuilder = new StringBuilder(regex.length()).append(regex, 0, regexIndex);
+
+                literalBuilder.append(escapedCharacter);
+                regexIndex++;
+                continue;
+            }
+
+            if (REGEX_META_CHARACTERS.indexOf(regexCharacter) >= 0)
+                return null;
+
+            if (literalBuilder != null)
+                literalBuilder.append(regexCharacter);
+        }
+
+        return literalBuilder != null
+               ? literalBuilder.toString()
+               : regex;
+    }
+
+    /**
+     * Splits the specified {@link CharSequence} and passes each element to the {@link Consumer} with the same index.
+     * The number of elements is verified before the first {@link Consumer} is called.
+     *
+     * @param compositeCharSequence
+     *        {@link CharSequence} to split
+     *
+     * @param elementConsumers
+     *        array of {@link Consumer}s, one for each element
+     *
+     * @throws IllegalArgumentException
+     *         if the number of {@code elementConsumers} differs from the number of elements
+     */
+    @SafeVarargs
+    public final void splitInto(final CharSequence compositeCharSequence, final Consumer<String>... elementConsumers) {
+
+        final int elementCount = countElements(compositeCharSequence);
+
+        ensureElementConsumerCount(elementConsumers.length, elementCount);
+
+        final int length = compositeCharSequence.length();
+        int elementStartIndex = 0;
+
+        scanStarted();
+        try {
+            for (int elementIndex = 0; elementIndex < elementCount; elementIndex++) {
+                final int delimiterIndex = delimiterIndex(compositeCharSequence, elementStartIndex);
+                final int elementEndIndex = delimiterIndex >= 0
+                                            ? delimiterIndex
+                                            : length;
+                final int nextElementStartIndex = delimiterIndex >= 0
+                                                  ? delimiterIndex +
+                                                    delimiterLength(compositeCharSequence, delimiterIndex)
+                                                  : length;
+
+                elementConsumers[elementIndex].accept(compositeCharSequence.subSequence(elementStartIndex,
+                                                                                        elementEndIndex)
+                                                                           .toString());
+
+                elementStartIndex = nextElementStartIndex;
+            }
+        }
+        finally {
+            scanFinished();
+        }
+    }
+
+    /**
+     * Splits the specified {@link CharSequence} and passes each field to the {@link FieldConsumer} with the same
+     * index. The fields are the same as the elements passed by {@link #splitInto(CharSequence, Consumer[])}, and their
+     * number is verified before the first {@link FieldConsumer} is called.
+     *
+     * @param compositeCharSequence
+     *        {@link CharSequence} to split
+     *
+     * @param fieldConsumers
+     *        array of {@link FieldConsumer}s, one for each field
+     *
+     * @throws IllegalArgumentException
+     *         if the number of {@code fieldConsumers} differs from the number of fields
+     *
+     * @throws NumberFormatException
+     *         if a parsing {@link FieldConsumer} is passed a field not representing a number
+     */
+    public final void splitIntoFields(final CharSequence compositeCharSequence, final FieldConsumer... fieldConsumers) {
+
+        final int fieldCount = countElements(compositeCharSequence);
+
+        ensureElementConsumerCount(fieldConsumers.length, fieldCount);
+
+        final int length = compositeCharSequence.length();
+        int fieldStartIndex = 0;
+
+        scanStarted();
+        try {
+            for (int fieldIndex = 0; fieldIndex < fieldCount; fieldIndex++) {
+                final int delimiterIndex = delimiterIndex(compositeCharSequence, fieldStartIndex);
+
+                if (delimiterIndex < 0) {
+                    fieldConsumers[fieldIndex].accept(compositeCharSequence, fieldStartIndex, length);
+                    break;
+                }
+
+                final int nextFieldStartIndex =
+                    delimiterIndex + delimiterLength(compositeCharSequence, delimiterIndex);
+
+                fieldConsumers[fieldIndex].accept(compositeCharSequence, fieldStartIndex, delimiterIndex);
+
+                fieldStartIndex = nextFieldStartIndex;
+            }
+        }
+        finally {
+            scanFinished();
+        }
+    }
+
+    /**
+     * Splits the specified {@link CharSequence} and passes the range of each element to the specified
+     * {@link CharSequenceRangeConsumer}. No {@link String}s are created for the elements. The elements are the same as
+     * those passed by {@link #splitInto(CharSequence, Consumer[])}.
+     *
+     * @param compositeCharSequence
+     *        {@link CharSequence} to split
+     *
+     * @param elementRangeConsumer
+     *        {@link CharSequenceRangeConsumer} called for each element
+     *
+     * @return integer specifying the number of elements
+     */
+    public final int forEachElementRange(final CharSequence compositeCharSequence,
+                                         final CharSequenceRangeConsumer elementRangeConsumer) {
+
+        final int elementCount = countElements(compositeCharSequence);
+
+        final int length = compositeCharSequence.length();
+        int elementStartIndex = 0;
+
+        scanStarted();
+        try {
+            for (int elementIndex = 0; elementIndex < elementCount; elementIndex++) {
+                final int delimiterIndex = delimiterIndex(compositeCharSequence, elementStartIndex);
+
+                if (delimiterIndex < 0) {
+                    elementRangeConsumer.accept(elementStartIndex, length);
+                    break;
+                }
+
+                final int nextElementStartIndex =
+                    delimiterIndex + delimiterLength(compositeCharSequence, delimiterIndex);
+
+                elementRangeConsumer.accept(elementStartIndex, delimiterIndex);
+
+                elementStartIndex = nextElementStartIndex;
+            }
+        }
+        finally {
+            scanFinished();
+        }
+
+        return elementCount;
+    }
+
+    /**
+     * Counts the elements of the specified {@link CharSequence}, excluding trailing empty elements.
+     *
+     * @param compositeCharSequence
+     *        {@link CharSequence} to split
+     *
+     * @return integer specifying the number of elements
+     */
+    public final int countElements(final CharSequence compositeCharSequence) {
+        final int length = compositeCharSequence.length();
+
+        int elementCount = 0;
+        int nonEmptyElementCount = 0;
+        int elementStartIndex = 0;
+
+        scanStarted();
+        try {
+            while (true) {
+                final int delimiterIndex = delimiterIndex(compositeCharSequence, elementStartIndex);
+
+                if (delimiterIndex < 0) {
+                    elementCount++;
+
+                    if (elementCount == 1)
+                        return 1;
+
+                    return elementStartIndex < length
+                           ? elementCount
+                           : nonEmptyElementCount;
+                }
+
+                elementCount++;
+
+                if (delimiterIndex > elementStartIndex)
+                    nonEmptyElementCount = elementCount;
+
+                elementStartIndex = delimiterIndex + delimiterLength(compositeCharSequence, delimiterIndex);
+            }
+        }
+        finally {
+            scanFinished();
+        }
+    }
+
+    /**
+     * Verifies that the specified number of element consumers matches the specified number of elements.
+     *
+     * @param elementConsumerCount
+     *        integer specifying the number of element consumers
+     *
+     * @param elementCount
+     *        integer specifying the number of elements
+     *
+     * @throws IllegalArgumentException
+     *         if {@code elementConsumerCount != elementCount}
+     */
+    static void ensureElementConsumerCount(final int elementConsumerCount, final int elementCount) {
+        if (elementConsumerCount < elementCount)
+            throw new IllegalArgumentException(String.format(
+                "Too few elementConsumers. #elementConsumers=%d. #elements=%d.",
+                elementConsumerCount,
+                elementCount));
+
+        if (elementConsumerCount > elementCount)
+            throw new IllegalArgumentException(String.format(
+                "Too many elementConsumers. #elementConsumers=%d. #elements=%d.",
+                elementConsumerCount,
+                elementCount));
+    }
+
+    /**
+     * Returns the index of the first delimiter found in the specified {@link CharSequence} at or after the specified
+     * index.
+     *
+     * @param compositeCharSequence
+     *        {@link CharSequence} to scan
+     *
+     * @param fromIndex
+     *        integer specifying the index at which the scan starts
+     *
+     * @return integer specifying the index of the delimiter; {@code -1} if no delimiter has been found
+     */
+    protected abstract int delimiterIndex(CharSequence compositeCharSequence, int fromIndex);
+
+    /**
+     * Returns the length of the delimiter at the specified index, as just returned by
+     * {@link #delimiterIndex(CharSequence, int)} in the current {@link Thread}. It is called before any element
+     * consumer, so no consumer runs between the two calls.
+     *
+     * @param compositeCharSequence
+     *        {@link CharSequence} to scan
+     *
+     * @param delimiterIndex
+     *        integer specifying the index of the delimiter
+     *
+     * @return integer specifying the length of the delimiter
+     */
+    protected abstract int delimiterLength(CharSequence compositeCharSequence, int delimiterIndex);
+
+    /**
+     * Prepares any state kept by this Splitter in the current {@link Thread} for a scan. Scans are nested if an element
+     * consumer splits using the same Splitter; each nested scan is started and finished while the enclosing scan is
+     * active. This implementation does nothing.
+     */
+    protected void scanStarted() {
+    }
+
+    /**
+     * Releases any state kept by this Splitter in the current {@link Thread} when a scan, started by
+     * {@link #scanStarted()}, has finished. This implementation does nothing.
+     */
+    protected void scanFinished() {
+    }
+}
@@ -21,6 +21,8 @@
 
 package org.jlib.text;
 
+import java.util.function.IntPredicate;
+
 import org.jlib.iterable.NoItemToRemoveException;
 
 /**
@@ -33,8 +35,8 @@ public class StringBuilderIterator
 
     /** {@link StringBuilder} iterated by this StringBuilderIterator */
     private final StringBuilder stringBuilder;
-    /** last {@link Character} returned by {@link #next()} */
-    private Character lastReturnedCharacter = null;
+    /** {@code true} if a character has been returned and not yet removed */
+    private boolean lastReturnedCharacterRemovable = false;
 
     /**
      * Creates a new {@link StringBuilderIterator} over the {@link Character}s of the specified {@link StringBuilder}.
@@ -174,9 +176,9 @@ public class StringBuilderIterator
     }
 
     @Override
-    public Character next() {
-        final Character lastReturnedCharacter = super.next();
-        this.lastReturnedCharacter = lastReturnedCharacter;
+    public char nextChar() {
+        final char lastReturnedCharacter = super.nextChar();
+        lastReturnedCharacterRemovable = true;
         return lastReturnedCharacter;
     }
 
@@ -184,14 +186,72 @@ public class StringBuilderIterator
      * Deletes the last {@link Character} returned by this {@link StringBuilderIterator} from the {@link StringBuilder}.
      *
      * @throws IllegalStateException
-     *         if no {@link Character} has been returned yet
+     *         if no {@link Character} has been returned yet or the last returned {@link Character} has already been
+     *         removed
      */
     @Override
     public void remove() {
-        if (lastReturnedCharacter == null)
+        if (! lastReturnedCharacterRemovable)
             throw new NoItemToRemoveException(stringBuilder);
 
-        stringBuilder.deleteCharAt(nextCharacterIndex - 1);
+        stringBuilder.deleteCharAt(--nextCharacterIndex);
         lastCharacterIndex--;
+        lastReturnedCharacterRemovable = false;
+    }
+
+    /**
+     * Deletes all remaining {@link Character}s satisfying the specified {@link IntPredicate} from the
+     * {@link StringBuilder} and exhausts this {@link StringBuilderIterator}. The {@link StringBuilder} is compacted in a
+     * single pass, and the characters following the iterated subsequence are shifted once.
+     *
+     * @param removedCharacterPredicate
+     *        {@link IntPredicate} satisfied by each character to delete
+     *
+     * @return integer specifying the number of deleted characters
+     */
+    public int removeIf(final IntPredicate removedCharacterPredicate) {
+        final int endCharacterIndex = Math.min(lastCharacterIndex + 1, stringBuilder.length());
+
+        int targetCharacterIndex = nextCharacterIndex;
+
+        for (int sourceCharacterIndex = nextCharacterIndex; sourceCharacterIndex < endCharacterIndex;
+             sourceCharacterIndex++) {
+
+            final char character = stringBuilder.charAt(sourceCharacterIndex);
+
+            if (removedCharacterPredicate.test(character))
+                continue;
+
+            if (targetCharacterIndex != sourceCharacterIndex)
+                stringBuilder.setCharAt(targetCharacterIndex, character);
+
+            targetCharacterIndex++;
+        }
+
+        final int removedCharacterCount = endCharacterIndex - targetCharacterIndex;
+
+        if (removedCharacterCount > 0)
+            stringBuilder.delete(targetCharacterIndex, endCharacterIndex);
+
+        lastCharacterIndex -= removedCharacterCount;
+        nextCharacterIndex = targetCharacterIndex;
+        lastReturnedCharacterRemovable = false;
+
+        return removedCharacterCount;
+    }
+
+    /**
+     * Deletes all remaining {@link Character}s not satisfying the specified {@link IntPredicate} from the
+     * {@link StringBuilder} and exhausts this {@link StringBuilderIterator}.
+     *
+     * @param retainedCharacterPredicate
+     *        {@link IntPredicate} satisfied by each character to retain
+     *
+     * @return integer specifying the number of deleted characters
+     *
+     * @see #removeIf(IntPredicate)
+     */
+    public int retainIf(final IntPredicate retainedCharacterPredicate) {
+        return removeIf(retainedCharacterPredicate.negate());
     }
 }
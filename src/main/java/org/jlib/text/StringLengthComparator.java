@@ -30,7 +30,8 @@ import lombok.NoArgsConstructor;
  * <p>
  * Comparator performing the comparison of two objects by comparing the lengths
  * of their String representations as returned by the {@code toString()} method.
- * Null String representations are assumed to have length -1.
+ * Null String representations are assumed to have length -1. The length of a
+ * {@link CharSequence} is read directly without calling {@code toString()}.
  * </p>
  * <p>
  * Implemented as a singleton.
@@ -49,6 +50,27 @@ public class StringLengthComparator<ComparisonObject>
 
     @Override
     public int compare(final ComparisonObject object1, final ComparisonObject object2) {
-        return object1.toString().length() - object2.toString().length();
+        return Integer.compare(stringLength(object1), stringLength(object2));
+    }
+
+    /**
+     * Returns the length of the String representation of the specified object. The length of a
+     * {@link CharSequence} is read directly without creating its String representation.
+     *
+     * @param object
+     *        object to measure
+     *
+     * @return integer specifying the length of the String representation of {@code object};
+     *         {@code -1} if the String representation is {@code null}
+     */
+    private static int stringLength(final Object object) {
+        if (object instanceof CharSequence)
+            return ((CharSequence) object).length();
+
+        final String string = object.toString();
+
+        return string != null
+               ? string.length()
+               : - 1;
     }
 }
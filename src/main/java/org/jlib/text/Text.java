@@ -21,9 +21,14 @@
 
 package org.jlib.text;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import static org.jlib.message.Messages.message;
 
@@ -31,7 +36,10 @@ public class Text {
 
     public static final String EMPTY = "";
     public static final String[] NO_STRINGS = {};
-    public static final Comparator<?> STRING_LENGTH_COMPARATOR = Comparator.comparingInt(compared -> compared.toString().length());
+    public static final Comparator<?> STRING_LENGTH_COMPARATOR = StringLengthComparator.INSTANCE;
+
+    private static final BoundedConcurrentCache<String, Pattern> PATTERN_CACHE = new BoundedConcurrentCache<>(256);
+    private static final BoundedConcurrentCache<String, Splitter> SPLITTER_CACHE = new BoundedConcurrentCache<>(256);
 
     public static StringBuilder clear(final StringBuilder stringBuilder) {
         stringBuilder.setLength(0);
@@ -39,8 +47,219 @@ public class Text {
         return stringBuilder;
     }
 
-    public static String removeFirst(final String containingString, final String removedString) {
-        return containingString.replaceFirst(removedString, EMPTY);
+    public static Pattern pattern(final String regex) {
+        return PATTERN_CACHE.get(regex, Pattern::compile);
+    }
+
+    static Splitter splitter(final String regex) {
+        return SPLITTER_CACHE.get(regex, Splitter::onRegex);
+    }
+
+    public static String removeFirst(final String containingString, final String removedRegex) {
+        return removeFirst(containingString, pattern(removedRegex));
+    }
+
+    public static String removeFirst(final String containingString, final Pattern removedPattern) {
+        final Matcher matcher = removedPattern.matcher(containingString);
+
+        if (! matcher.find())
+            return containingString;
+
+        return remove(containingString, matcher.start(), matcher.end());
+    }
+
+    public static String removeLast(final String containingString, final String removedRegex) {
+        return removeLast(containingString, pattern(removedRegex));
+    }
+
+    public static String removeLast(final String containingString, final Pattern removedPattern) {
+        final Matcher matcher = removedPattern.matcher(containingString);
+
+        if (! matcher.find())
+            return containingString;
+
+        int lastMatchStartIndex;
+        int lastMatchEndIndex;
+        do {
+            lastMatchStartIndex = matcher.start();
+            lastMatchEndIndex = matcher.end();
+        }
+        while (matcher.find());
+
+        return remove(containingString, lastMatchStartIndex, lastMatchEndIndex);
+    }
+
+    public static String removeAll(final String containingString, final String removedRegex) {
+        return removeAll(containingString, pattern(removedRegex));
+    }
+
+    public static String removeAll(final String containingString, final Pattern removedPattern) {
+        return removedPattern.matcher(containingString).replaceAll(EMPTY);
+    }
+
+    public static String removeFirstLiteral(final String containingString, final String removedString) {
+        final int removedIndex = containingString.indexOf(removedString);
+
+        if (removedIndex < 0 || removedString.isEmpty())
+            return containingString;
+
+        return remove(containingString, removedIndex, removedIndex + removedString.length());
+    }
+
+    public static String removeLastLiteral(final String containingString, final String removedString) {
+        final int removedIndex = containingString.lastIndexOf(removedString);
+
+        if (removedIndex < 0 || removedString.isEmpty())
+            return containingString;
+
+        return remove(containingString, removedIndex, removedIndex + removedString.length());
+    }
+
+    public static String removeAllLiteral(final String containingString, final String removedString) {
+        int removedIndex = containingString.indexOf(removedString);
+
+        if (removedIndex < 0 || removedString.isEmpty())
+            return containingString;
+
+        final StringBuilder remainingBuilder = new StringBuilder(containingString.length() - removedString.length());
+        int remainingStartIndex = 0;
+
+        do {
+            remainingBuilder.append(containingString, remainingStartIndex, removedIndex);
+            remainingStartIndex = removedIndex + removedString.length();
+            removedIndex = containingString.indexOf(removedString, remainingStartIndex);
+        }
+        while (removedIndex >= 0);
+
+        return remainingBuilder.append(containingString, remainingStartIndex, containingString.length()).toString();
+    }
+
+    private static String remove(final String containingString, final int removedStartIndex, final int removedEndIndex) {
+        if (removedStartIndex == removedEndIndex)
+            return containingString;
+
+        return new StringBuilder(containingString.length() - (removedEndIndex - removedStartIndex))
+            .append(containingString, 0, removedStartIndex)
+            .append(containingString, removedEndIndex, containingString.length())
+            .toString();
+    }
+
+    public static StringBuilder removeFirst(final StringBuilder stringBuilder, final String removedRegex) {
+        return removeFirst(stringBuilder, pattern(removedRegex));
+    }
+
+    public static StringBuilder removeFirst(final StringBuilder stringBuilder, final Pattern removedPattern) {
+        final Matcher matcher = removedPattern.matcher(stringBuilder);
+
+        if (matcher.find())
+            stringBuilder.delete(matcher.start(), matcher.end());
+
+        return stringBuilder;
+    }
+
+    public static StringBuilder removeLast(final StringBuilder stringBuilder, final String removedRegex) {
+        return removeLast(stringBuilder, pattern(removedRegex));
+    }
+
+    public static StringBuilder removeLast(final StringBuilder stringBuilder, final Pattern removedPattern) {
+        final Matcher matcher = removedPattern.matcher(stringBuilder);
+
+        if (! matcher.find())
+            return stringBuilder;
+
+        int lastMatchStartIndex;
+        int lastMatchEndIndex;
+        do {
+            lastMatchStartIndex = matcher.start();
+            lastMatchEndIndex = matcher.end();
+        }
+        while (matcher.find());
+
+        return stringBuilder.delete(lastMatchStartIndex, lastMatchEndIndex);
+    }
+
+    public static StringBuilder removeAll(final StringBuilder stringBuilder, final String removedRegex) {
+        return removeAll(stringBuilder, pattern(removedRegex));
+    }
+
+    public static StringBuilder removeAll(final StringBuilder stringBuilder, final Pattern removedPattern) {
+        final Matcher matcher = removedPattern.matcher(stringBuilder);
+
+        // the matches are recorded first as the matcher may look behind into already compacted characters
+        int[] matchIndices = new int[16];
+        int matchIndicesCount = 0;
+
+        while (matcher.find()) {
+            if (matcher.start() == matcher.end())
+                continue;
+
+            if (matchIndicesCount == matchIndices.length)
+                matchIndices = Arrays.copyOf(matchIndices, 2 * matchIndicesCount);
+
+            matchIndices[matchIndicesCount++] = matcher.start();
+            matchIndices[matchIndicesCount++] = matcher.end();
+        }
+
+        if (matchIndicesCount == 0)
+            return stringBuilder;
+
+        int targetIndex = matchIndices[0];
+        for (int matchIndicesIndex = 1; matchIndicesIndex < matchIndicesCount; matchIndicesIndex += 2) {
+            final int remainingEndIndex = matchIndicesIndex + 1 < matchIndicesCount
+                                          ? matchIndices[matchIndicesIndex + 1]
+                                          : stringBuilder.length();
+
+            for (int sourceIndex = matchIndices[matchIndicesIndex]; sourceIndex < remainingEndIndex; sourceIndex++)
+                stringBuilder.setCharAt(targetIndex++, stringBuilder.charAt(sourceIndex));
+        }
+
+        stringBuilder.setLength(targetIndex);
+
+        return stringBuilder;
+    }
+
+    public static StringBuilder removeFirstLiteral(final StringBuilder stringBuilder, final String removedString) {
+        final int removedIndex = stringBuilder.indexOf(removedString);
+
+        if (removedIndex >= 0)
+            stringBuilder.delete(removedIndex, removedIndex + removedString.length());
+
+        return stringBuilder;
+    }
+
+    public static StringBuilder removeLastLiteral(final StringBuilder stringBuilder, final String removedString) {
+        final int removedIndex = stringBuilder.lastIndexOf(removedString);
+
+        if (removedIndex >= 0)
+            stringBuilder.delete(removedIndex, removedIndex + removedString.length());
+
+        return stringBuilder;
+    }
+
+    public static StringBuilder removeAllLiteral(final StringBuilder stringBuilder, final String removedString) {
+        int removedIndex = stringBuilder.indexOf(removedString);
+
+        if (removedIndex < 0 || removedString.isEmpty())
+            return stringBuilder;
+
+        int targetIndex = removedIndex;
+
+        do {
+            final int remainingStartIndex = removedIndex + removedString.length();
+            removedIndex = stringBuilder.indexOf(removedString, remainingStartIndex);
+
+            final int remainingEndIndex = removedIndex >= 0
+                                          ? removedIndex
+                                          : stringBuilder.length();
+
+            for (int sourceIndex = remainingStartIndex; sourceIndex < remainingEndIndex; sourceIndex++)
+                stringBuilder.setCharAt(targetIndex++, stringBuilder.charAt(sourceIndex));
+        }
+        while (removedIndex >= 0);
+
+        stringBuilder.setLength(targetIndex);
+
+        return stringBuilder;
     }
 
     public static Iterable<Character> asIterable(final CharSequence characterSequence) {
@@ -55,6 +274,54 @@ public class Text {
         return () -> new CharSequenceIterator(characterSequence, firstCharacterIndex, lastCharacterIndex);
     }
 
+    public static StringBuilder removeIf(final StringBuilder stringBuilder, final IntPredicate removedCharacterPredicate) {
+        new StringBuilderIterator(stringBuilder).removeIf(removedCharacterPredicate);
+
+        return stringBuilder;
+    }
+
+    public static StringBuilder retainIf(final StringBuilder stringBuilder, final IntPredicate retainedCharacterPredicate) {
+        new StringBuilderIterator(stringBuilder).retainIf(retainedCharacterPredicate);
+
+        return stringBuilder;
+    }
+
+    public static CharIterable asCharIterable(final CharSequence characterSequence) {
+        return CharSequenceIterator.charIterable(characterSequence);
+    }
+
+    public static CharIterable asCharIterable(final CharSequence characterSequence, final int firstCharacterIndex) {
+        return CharSequenceIterator.charIterable(characterSequence, firstCharacterIndex);
+    }
+
+    public static CharIterable asCharIterable(final CharSequence characterSequence, final int firstCharacterIndex, final int lastCharacterIndex) {
+        return CharSequenceIterator.charIterable(characterSequence, firstCharacterIndex, lastCharacterIndex);
+    }
+
+    public static CodePointIterable asCodePointIterable(final CharSequence characterSequence) {
+        return () -> new CodePointIterator(characterSequence);
+    }
+
+    public static CodePointIterable asCodePointIterable(final CharSequence characterSequence, final int firstCharacterIndex) {
+        return () -> new CodePointIterator(characterSequence, firstCharacterIndex);
+    }
+
+    public static CodePointIterable asCodePointIterable(final CharSequence characterSequence, final int firstCharacterIndex, final int lastCharacterIndex) {
+        return () -> new CodePointIterator(characterSequence, firstCharacterIndex, lastCharacterIndex);
+    }
+
+    public static IntStream charStream(final CharSequence characterSequence) {
+        return StreamSupport.intStream(new CharSequenceSpliterator(characterSequence), false);
+    }
+
+    public static IntStream charStream(final CharSequence characterSequence, final int firstCharacterIndex) {
+        return StreamSupport.intStream(new CharSequenceSpliterator(characterSequence, firstCharacterIndex), false);
+    }
+
+    public static IntStream charStream(final CharSequence characterSequence, final int firstCharacterIndex, final int lastCharacterIndex) {
+        return StreamSupport.intStream(new CharSequenceSpliterator(characterSequence, firstCharacterIndex, lastCharacterIndex), false);
+    }
+
     public static void ensureIndicesValid(final CharSequence charSequence, final int firstCharacterIndex, final int lastCharacterIndex)
         throws CharSequenceIndexOutOfBoundsException {
 
@@ -73,23 +340,10 @@ public class Text {
 
     @SafeVarargs
     public static void splitInto(final String compositeString, final String regex, final Consumer<String>... elementConsumers) {
+        splitter(regex).splitInto(compositeString, elementConsumers);
+    }
 
-        final String[] elements = compositeString.split(regex);
-
-        if (elementConsumers.length < elements.length)
-            throw new IllegalArgumentException(String.format(
-                "Too few elementConsumers. #elementConsumers=%d. #elements=%d.",
-                elementConsumers.length,
-                elements.length));
-
-        if (elementConsumers.length > elements.length)
-            throw new IllegalArgumentException(String.format(
-                "Too many elementConsumers. #elementConsumers=%d. #elements=%d.",
-                elementConsumers.length,
-                elements.length));
-
-        IntStream
-            .range(0, elements.length)
-            .forEach(index -> elementConsumers[index].accept(elements[index]));
+    public static void splitIntoFields(final String compositeString, final String regex, final FieldConsumer... fieldConsumers) {
+        splitter(regex).splitIntoFields(compositeString, fieldConsumers);
     }
 }
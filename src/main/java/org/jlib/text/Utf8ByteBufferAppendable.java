@@ -0,0 +1,270 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * {@link Appendable} encoding the appended characters as UTF-8 directly into a {@link ByteBuffer}, which may be a
+ * direct buffer, without creating intermediate {@link String}s or byte arrays. Runs of ASCII characters are written
+ * straight into the backing array of a heap buffer.
+ * </p>
+ * <p>
+ * Like {@link String#getBytes(java.nio.charset.Charset)}, an unpaired surrogate is encoded as {@code '?'}. A high
+ * surrogate at the end of an appended sequence is kept until the next character is appended or {@link #finish()} is
+ * called, so surrogate pairs may be split across appends.
+ * </p>
+ * <p>
+ * If the remaining space of the {@link ByteBuffer} is insufficient, a {@link BufferOverflowException} is thrown. The
+ * position of the buffer then follows the last completely encoded character. {@link #encode(CharSequence, ByteBuffer)}
+ * signals an overflow by its return value instead and leaves the position unchanged.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class Utf8ByteBufferAppendable
+    implements Appendable {
+
+    /** byte replacing an unpaired surrogate */
+    private static final byte REPLACEMENT_BYTE = '?';
+
+    /** target {@link ByteBuffer} */
+    private final ByteBuffer target;
+
+    /** high surrogate awaiting its low surrogate; {@code 0} if none */
+    private char pendingHighSurrogate;
+
+    /**
+     * Creates a new Utf8ByteBufferAppendable writing at the current position of the specified {@link ByteBuffer}.
+     *
+     * @param target
+     *        target {@link ByteBuffer}
+     */
+    public Utf8ByteBufferAppendable(final ByteBuffer target) {
+        this.target = target;
+    }
+
+    /**
+     * Encodes the specified {@link CharSequence} as UTF-8 into the specified {@link ByteBuffer}.
+     *
+     * @param charSequence
+     *        {@link CharSequence} to encode
+     *
+     * @param target
+     *        target {@link ByteBuffer}
+     *
+     * @return {@code true} if {@code charSequence} has been completely encoded;
+     *         {@code false} if the remaining space of {@code target} is insufficient, in which case its position is
+     *         left unchanged
+     */
+    public static boolean encode(final CharSequence charSequence, final ByteBuffer target) {
+        final int startPosition = target.position();
+
+        try {
+            final Utf8ByteBufferAppendable appendable = new Utf8ByteBufferAppendable(target);
+            appendable.append(charSequence);
+            appendable.finish();
+            return true;
+        }
+        catch (final BufferOverflowException exception) {
+            target.position(startPosition);
+            return false;
+        }
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(final CharSequence charSequence)
+        throws BufferOverflowException {
+        final CharSequence characters = charSequence != null
+                                        ? charSequence
+                                        : "null";
+
+        return append(characters, 0, characters.length());
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(final CharSequence charSequence, final int startIndex, final int endIndex)
+        throws BufferOverflowException {
+        final CharSequence characters = charSequence != null
+                                        ? charSequence
+                                        : "null";
+        int position = target.position();
+        int characterIndex = startIndex;
+
+        if (pendingHighSurrogate != 0 && characterIndex < endIndex) {
+            final char highSurrogate = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+
+            final char character = characters.charAt(characterIndex);
+            if (Character.isLowSurrogate(character)) {
+                position = putCodePoint(position, Character.toCodePoint(highSurrogate, character));
+                characterIndex++;
+            }
+            else
+                position = putByte(position, REPLACEMENT_BYTE);
+        }
+
+        while (characterIndex < endIndex) {
+            final char character = characters.charAt(characterIndex);
+
+            if (character < 0x80) {
+                final int runEndPosition = putAsciiRun(characters, characterIndex, endIndex, position);
+                characterIndex += runEndPosition - position;
+                position = runEndPosition;
+                continue;
+            }
+
+            if (Character.isHighSurrogate(character)) {
+                if (characterIndex + 1 == endIndex) {
+                    pendingHighSurrogate = character;
+                    characterIndex++;
+                    continue;
+                }
+
+                final char lowSurrogate = characters.charAt(characterIndex + 1);
+                if (Character.isLowSurrogate(lowSurrogate)) {
+                    position = putCodePoint(position, Character.toCodePoint(character, lowSurrogate));
+                    characterIndex += 2;
+                    continue;
+                }
+
+                position = putByte(position, REPLACEMENT_BYTE);
+            }
+            else if (Character.isLowSurrogate(character))
+                position = putByte(position, REPLACEMENT_BYTE);
+            else
+                position = putCodePoint(position, character);
+
+            characterIndex++;
+        }
+
+        target.position(position);
+
+        return this;
+    }
+
+    @Override
+    public Utf8ByteBufferAppendable append(final char character)
+        throws BufferOverflowException {
+        return append(String.valueOf(character), 0, 1);
+    }
+
+    /**
+     * Encodes a pending high surrogate, left by a previous append, as {@code '?'}. Must be called after the last
+     * append.
+     *
+     * @throws BufferOverflowException
+     *         if the remaining space of the {@link ByteBuffer} is insufficient
+     */
+    public void finish()
+        throws BufferOverflowException {
+        if (pendingHighSurrogate == 0)
+            return;
+
+        pendingHighSurrogate = 0;
+        target.position(putByte(target.position(), REPLACEMENT_BYTE));
+    }
+
+    /**
+     * Writes the run of ASCII characters starting at the specified index. The end of the run is found by
+     * {@link AsciiScanning}, the run is then copied without verifying each character. A String is copied into the
+     * backing array of the {@link ByteBuffer} in bulk.
+     *
+     * @return integer specifying the position following the run
+     */
+    @SuppressWarnings("deprecation")
+    private int putAsciiRun(final CharSequence characters, final int startIndex, final int endIndex,
+                            final int startPosition) {
+        final int scanEndIndex = startIndex + Math.min(endIndex - startIndex, target.limit() - startPosition);
+        final int nonAsciiIndex = AsciiScanning.indexOfNonAscii(characters, startIndex, scanEndIndex);
+        final int runEndIndex = nonAsciiIndex != - 1
+                                ? nonAsciiIndex
+                                : scanEndIndex;
+
+        if (target.hasArray()) {
+            final byte[] array = target.array();
+            final int arrayOffset = target.arrayOffset() + startPosition - startIndex;
+
+            if (characters instanceof String)
+                ((String) characters).getBytes(startIndex, runEndIndex, array, arrayOffset + startIndex);
+            else
+                for (int characterIndex = startIndex; characterIndex < runEndIndex; characterIndex++)
+                    array[arrayOffset + characterIndex] = (byte) characters.charAt(characterIndex);
+        }
+        else
+            for (int characterIndex = startIndex; characterIndex < runEndIndex; characterIndex++)
+                target.put(startPosition + characterIndex - startIndex, (byte) characters.charAt(characterIndex));
+
+        final int position = startPosition + runEndIndex - startIndex;
+
+        if (runEndIndex < endIndex && characters.charAt(runEndIndex) < 0x80)
+            throw overflow(position);
+
+        return position;
+    }
+
+    private int putCodePoint(final int position, final int codePoint) {
+        if (codePoint < 0x80)
+            return putByte(position, (byte) codePoint);
+
+        if (codePoint < 0x800) {
+            ensureRemaining(position, 2);
+            target.put(position, (byte) (0xC0 | codePoint >> 6));
+            target.put(position + 1, (byte) (0x80 | codePoint & 0x3F));
+            return position + 2;
+        }
+
+        if (codePoint < 0x10000) {
+            ensureRemaining(position, 3);
+            target.put(position, (byte) (0xE0 | codePoint >> 12));
+            target.put(position + 1, (byte) (0x80 | codePoint >> 6 & 0x3F));
+            target.put(position + 2, (byte) (0x80 | codePoint & 0x3F));
+            return position + 3;
+        }
+
+        ensureRemaining(position, 4);
+        target.put(position, (byte) (0xF0 | codePoint >> 18));
+        target.put(position + 1, (byte) (0x80 | codePoint >> 12 & 0x3F));
+        target.put(position + 2, (byte) (0x80 | codePoint >> 6 & 0x3F));
+        target.put(position + 3, (byte) (0x80 | codePoint & 0x3F));
+        return position + 4;
+    }
+
+    private int putByte(final int position, final byte value) {
+        ensureRemaining(position, 1);
+        target.put(position, value);
+        return position + 1;
+    }
+
+    private void ensureRemaining(final int position, final int byteCount) {
+        if (target.limit() - position < byteCount)
+            throw overflow(position);
+    }
+
+    private BufferOverflowException overflow(final int position) {
+        target.position(position);
+        return new BufferOverflowException();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+import java.lang.reflect.Constructor;
+
+import static lombok.AccessLevel.PRIVATE;
+import lombok.NoArgsConstructor;
+
+/**
+ * Holder of the JDK Flight Recorder based {@link TextEventRecorder}, loaded reflectively as it is compiled for Java 11
+ * and only present, not public, in the multi-release section of the jar.
+ *
+ * @author Igor Akkerman
+ */
+@NoArgsConstructor(access = PRIVATE)
+final class FlightRecorderAvailability {
+
+    /** class name of the JDK Flight Recorder based {@link TextEventRecorder} */
+    private static final String FLIGHT_RECORDER_CLASS_NAME = "org.jlib.text.metrics.jfr.FlightRecorderTextEventRecorder";
+
+    /** JDK Flight Recorder based {@link TextEventRecorder}; {@link TextEventRecorder#NONE} if not available */
+    static final TextEventRecorder FLIGHT_RECORDER = loadFlightRecorder();
+
+    private static TextEventRecorder loadFlightRecorder() {
+        try {
+            Class.forName("jdk.jfr.Event");
+
+            final Constructor<?> flightRecorderConstructor =
+                Class.forName(FLIGHT_RECORDER_CLASS_NAME).getDeclaredConstructor();
+            flightRecorderConstructor.setAccessible(true);
+
+            return (TextEventRecorder) flightRecorderConstructor.newInstance();
+        }
+        catch (final ReflectiveOperationException | LinkageError | SecurityException exception) {
+            return TextEventRecorder.NONE;
+        }
+    }
+}
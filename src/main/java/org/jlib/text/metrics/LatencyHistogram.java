@@ -0,0 +1,182 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Histogram of non-negative long values, typically latencies in nanoseconds, recorded without locks.
+ * </p>
+ * <p>
+ * Values below 16 are counted exactly. Larger values are counted in logarithmic buckets, each power of two being
+ * divided into 8 linear sub-buckets, so a value read from the histogram deviates from a recorded value by less than
+ * 12.5%. Reading the histogram while values are recorded concurrently yields an approximate snapshot.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class LatencyHistogram {
+
+    /** number of values counted exactly */
+    private static final int LINEAR_BUCKET_COUNT = 16;
+
+    /** number of bits selecting the sub-bucket of a power of two */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /** number of sub-buckets per power of two */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** exponent of the smallest power of two divided into sub-buckets */
+    private static final int MINIMUM_EXPONENT = Integer.numberOfTrailingZeros(LINEAR_BUCKET_COUNT);
+
+    /** total number of buckets */
+    private static final int BUCKET_COUNT = LINEAR_BUCKET_COUNT + (Long.SIZE - 1 - MINIMUM_EXPONENT) * SUB_BUCKET_COUNT;
+
+    /** counts of the buckets */
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+
+    /** number of recorded values */
+    private final LongAdder count = new LongAdder();
+
+    /** sum of the recorded values */
+    private final LongAdder sum = new LongAdder();
+
+    /** maximum recorded value */
+    private final LongAccumulator maximum = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Records the specified value. Negative values are recorded as {@code 0}.
+     *
+     * @param value
+     *        long specifying the value
+     */
+    public void record(final long value) {
+        final long recordedValue = Math.max(value, 0);
+
+        bucketCounts.incrementAndGet(bucketIndex(recordedValue));
+        count.increment();
+        sum.add(recordedValue);
+        maximum.accumulate(recordedValue);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return long specifying the number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return double specifying the mean; {@code 0} if no value has been recorded
+     */
+    public double getMean() {
+        final long currentCount = count.sum();
+        return currentCount != 0
+               ? (double) sum.sum() / currentCount
+               : 0;
+    }
+
+    /**
+     * Returns the maximum recorded value.
+     *
+     * @return long specifying the maximum; {@code 0} if no value has been recorded
+     */
+    public long getMaximum() {
+        return maximum.get();
+    }
+
+    /**
+     * Returns the value below or at which the specified percentage of the recorded values lie, that is, the highest
+     * value counted in the same bucket as this value.
+     *
+     * @param percentile
+     *        double specifying the percentage; {@code 0 <= percentile <= 100}
+     *
+     * @return long specifying the value at {@code percentile}; {@code 0} if no value has been recorded
+     *
+     * @throws IllegalArgumentException
+     *         if {@code percentile < 0 || percentile > 100}
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("percentile=" + percentile);
+
+        long totalCount = 0;
+        for (int bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++)
+            totalCount += bucketCounts.get(bucketIndex);
+
+        if (totalCount == 0)
+            return 0;
+
+        final long requiredCount = Math.max(1, (long) Math.ceil(totalCount * percentile / 100));
+
+        long cumulatedCount = 0;
+        for (int bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++) {
+            cumulatedCount += bucketCounts.get(bucketIndex);
+            if (cumulatedCount >= requiredCount)
+                return Math.min(highestValue(bucketIndex), getMaximum());
+        }
+
+        return getMaximum();
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        for (int bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++)
+            bucketCounts.set(bucketIndex, 0);
+
+        count.reset();
+        sum.reset();
+        maximum.reset();
+    }
+
+    private static int bucketIndex(final long value) {
+        if (value < LINEAR_BUCKET_COUNT)
+            return (int) value;
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucketIndex = (int) (value >>> exponent - SUB_BUCKET_BITS) & SUB_BUCKET_COUNT - 1;
+
+        return LINEAR_BUCKET_COUNT + (exponent - MINIMUM_EXPONENT) * SUB_BUCKET_COUNT + subBucketIndex;
+    }
+
+    private static long highestValue(final int bucketIndex) {
+        if (bucketIndex < LINEAR_BUCKET_COUNT)
+            return bucketIndex;
+
+        final int exponent = MINIMUM_EXPONENT + (bucketIndex - LINEAR_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final long subBucketIndex = (bucketIndex - LINEAR_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        final long subBucketWidth = 1L << exponent - SUB_BUCKET_BITS;
+
+        return (1L << exponent) + (subBucketIndex + 1) * subBucketWidth - 1;
+    }
+}
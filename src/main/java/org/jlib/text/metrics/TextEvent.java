@@ -0,0 +1,47 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+/**
+ * Event of a template rendering or a String transformation, begun by a {@link TextEventRecorder} and committed when
+ * the rendering or transformation is finished.
+ *
+ * @author Igor Akkerman
+ */
+@FunctionalInterface
+public interface TextEvent {
+
+    /** {@link TextEvent} not recording anything */
+    TextEvent NONE = outputLength -> {
+        // not recording anything
+    };
+
+    /**
+     * Ends and commits this {@link TextEvent}.
+     *
+     * @param outputLength
+     *        integer specifying the length of the rendered or transformed text; {@link TextMetrics#UNKNOWN_LENGTH}
+     *        if unknown
+     */
+    void commit(int outputLength);
+}
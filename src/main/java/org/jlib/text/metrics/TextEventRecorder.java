@@ -0,0 +1,92 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+/**
+ * <p>
+ * Recorder of {@link TextEvent}s, for instance, as JDK Flight Recorder events.
+ * </p>
+ * <p>
+ * {@link #flightRecorder()} returns the JDK Flight Recorder based {@link TextEventRecorder}, provided in the
+ * multi-release section of the jlib-text jar for Java 11 and higher. On older Java versions, it returns
+ * {@link #NONE}, so the recording decorators may be used on any supported Java version.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public interface TextEventRecorder {
+
+    /** {@link TextEventRecorder} not recording anything */
+    TextEventRecorder NONE = new TextEventRecorder() {
+
+        @Override
+        public TextEvent beginTemplateRendering(final String name, final CharSequence template,
+                                                final int argumentCount) {
+            return TextEvent.NONE;
+        }
+
+        @Override
+        public TextEvent beginStringTransformation(final String name, final int inputLength) {
+            return TextEvent.NONE;
+        }
+    };
+
+    /**
+     * Returns the JDK Flight Recorder based {@link TextEventRecorder}, if available.
+     *
+     * @return the JDK Flight Recorder based {@link TextEventRecorder};
+     *         {@link #NONE} if the JDK Flight Recorder is not available
+     */
+    static TextEventRecorder flightRecorder() {
+        return FlightRecorderAvailability.FLIGHT_RECORDER;
+    }
+
+    /**
+     * Begins the {@link TextEvent} of a template rendering.
+     *
+     * @param name
+     *        {@link String} specifying the name of the recording decorator
+     *
+     * @param template
+     *        {@link CharSequence} specifying the rendered template
+     *
+     * @param argumentCount
+     *        integer specifying the number of arguments
+     *
+     * @return the begun {@link TextEvent}; {@link TextEvent#NONE} if the event is not recorded
+     */
+    TextEvent beginTemplateRendering(String name, CharSequence template, int argumentCount);
+
+    /**
+     * Begins the {@link TextEvent} of a String transformation.
+     *
+     * @param name
+     *        {@link String} specifying the name of the recording decorator
+     *
+     * @param inputLength
+     *        integer specifying the length of the String to transform
+     *
+     * @return the begun {@link TextEvent}; {@link TextEvent#NONE} if the event is not recorded
+     */
+    TextEvent beginStringTransformation(String name, int inputLength);
+}
@@ -0,0 +1,325 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * <p>
+ * Metrics of a named {@link org.jlib.text.transformer.StringTransformer} or
+ * {@link org.jlib.text.templateengine.TemplateEngine}, recorded by an instrumenting decorator: the number of calls,
+ * a {@link LatencyHistogram} of their durations, the total input and output lengths and, if supported by the JVM, the
+ * bytes allocated by the calling threads.
+ * </p>
+ * <p>
+ * Recording is lock-free. A disabled TextMetrics makes the decorators call their delegates directly, so their cost is
+ * a single volatile read. Tracking allocated bytes requires {@code com.sun.management.ThreadMXBean}, missing without
+ * the {@code jdk.management} module, and is disabled by default, as reading the allocated bytes of a thread is
+ * considerably more expensive than reading the clock.
+ * </p>
+ * <p>
+ * {@link #register(String)} creates a TextMetrics and registers it as JMX MBean named
+ * {@code org.jlib.text:type=TextMetrics,name=<name>} with the platform {@link MBeanServer}.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class TextMetrics
+    implements TextMetricsMBean {
+
+    /** domain and type of the {@link ObjectName}s */
+    private static final String OBJECT_NAME_PREFIX = "org.jlib.text:type=TextMetrics,name=";
+
+    /** length recorded if it is unknown */
+    public static final int UNKNOWN_LENGTH = - 1;
+
+    /** allocated bytes of a thread if they are not tracked */
+    private static final long UNTRACKED_ALLOCATED_BYTES = - 1;
+
+    /**
+     * {@code com.sun.management.ThreadMXBean} of the JVM; {@code null} if not supported, including if the
+     * {@code com.sun.management} classes are missing
+     */
+    private static final com.sun.management.ThreadMXBean ALLOCATION_THREAD_MX_BEAN = allocationThreadMXBean();
+
+    /** name of this TextMetrics */
+    private final String name;
+
+    /** whether recording is enabled */
+    private volatile boolean enabled = true;
+
+    /** whether allocated bytes are tracked */
+    private volatile boolean allocationTrackingEnabled;
+
+    /** histogram of the call latencies in nanoseconds */
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+    /** total length of the input texts */
+    private final LongAdder totalInputLength = new LongAdder();
+
+    /** total length of the output texts */
+    private final LongAdder totalOutputLength = new LongAdder();
+
+    /** total bytes allocated during the calls */
+    private final LongAdder totalAllocatedBytes = new LongAdder();
+
+    /** number of calls with tracked allocated bytes */
+    private final LongAdder allocationTrackedCallCount = new LongAdder();
+
+    /**
+     * Creates a new TextMetrics without registering it as JMX MBean.
+     *
+     * @param name
+     *        {@link String} specifying the name
+     */
+    public TextMetrics(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a new TextMetrics and registers it with the platform {@link MBeanServer}.
+     *
+     * @param name
+     *        {@link String} specifying the name
+     *
+     * @return the registered TextMetrics
+     *
+     * @throws IllegalStateException
+     *         if the TextMetrics cannot be registered, for instance, as its name is already used
+     */
+    public static TextMetrics register(final String name) {
+        final TextMetrics metrics = new TextMetrics(name);
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, metrics.getObjectName());
+        }
+        catch (final JMException exception) {
+            throw new IllegalStateException("Cannot register TextMetrics. name=" + name, exception);
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Unregisters this TextMetrics from the platform {@link MBeanServer}.
+     *
+     * @throws IllegalStateException
+     *         if this TextMetrics is not registered
+     */
+    public void unregister() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(getObjectName());
+        }
+        catch (final JMException exception) {
+            throw new IllegalStateException("Cannot unregister TextMetrics. name=" + name, exception);
+        }
+    }
+
+    /**
+     * Returns the JMX {@link ObjectName} of this TextMetrics.
+     *
+     * @return the {@link ObjectName}
+     *
+     * @throws IllegalStateException
+     *         if the name of this TextMetrics yields no valid {@link ObjectName}
+     */
+    public ObjectName getObjectName() {
+        try {
+            return new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+        }
+        catch (final JMException exception) {
+            throw new IllegalStateException("Invalid TextMetrics name. name=" + name, exception);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationThreadMXBean() {
+        try {
+            final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+            if (! (threadMXBean instanceof com.sun.management.ThreadMXBean))
+                return null;
+
+            final com.sun.management.ThreadMXBean allocationThreadMXBean =
+                (com.sun.management.ThreadMXBean) threadMXBean;
+
+            return allocationThreadMXBean.isThreadAllocatedMemorySupported() &&
+                   allocationThreadMXBean.isThreadAllocatedMemoryEnabled()
+                   ? allocationThreadMXBean
+                   : null;
+        }
+        catch (final LinkageError error) {
+            // com.sun.management is missing, e.g. in a runtime image without the jdk.management module
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, to be passed to
+     * {@link #record(long, long, int, int)} after the call.
+     *
+     * @return long specifying the allocated bytes; {@code -1} if allocated bytes are not tracked
+     */
+    public long currentThreadAllocatedBytes() {
+        if (! allocationTrackingEnabled || ALLOCATION_THREAD_MX_BEAN == null)
+            return UNTRACKED_ALLOCATED_BYTES;
+
+        return ALLOCATION_THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Records a finished call.
+     *
+     * @param startNanos
+     *        long specifying the value of {@link System#nanoTime()} before the call
+     *
+     * @param startAllocatedBytes
+     *        long specifying the value of {@link #currentThreadAllocatedBytes()} before the call
+     *
+     * @param inputLength
+     *        integer specifying the length of the input text; {@link #UNKNOWN_LENGTH} if unknown
+     *
+     * @param outputLength
+     *        integer specifying the length of the output text; {@link #UNKNOWN_LENGTH} if unknown
+     */
+    public void record(final long startNanos, final long startAllocatedBytes, final int inputLength,
+                       final int outputLength) {
+        latencyHistogram.record(System.nanoTime() - startNanos);
+
+        if (startAllocatedBytes != UNTRACKED_ALLOCATED_BYTES) {
+            totalAllocatedBytes.add(ALLOCATION_THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId()) -
+                                    startAllocatedBytes);
+            allocationTrackedCallCount.increment();
+        }
+
+        if (inputLength != UNKNOWN_LENGTH)
+            totalInputLength.add(inputLength);
+
+        if (outputLength != UNKNOWN_LENGTH)
+            totalOutputLength.add(outputLength);
+    }
+
+    /**
+     * Returns the name of this TextMetrics.
+     *
+     * @return {@link String} specifying the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the {@link LatencyHistogram} of the call latencies in nanoseconds.
+     *
+     * @return the {@link LatencyHistogram}
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isAllocationTrackingEnabled() {
+        return allocationTrackingEnabled;
+    }
+
+    @Override
+    public void setAllocationTrackingEnabled(final boolean allocationTrackingEnabled) {
+        this.allocationTrackingEnabled = allocationTrackingEnabled;
+    }
+
+    @Override
+    public long getCallCount() {
+        return latencyHistogram.getCount();
+    }
+
+    @Override
+    public double getMeanLatencyNanos() {
+        return latencyHistogram.getMean();
+    }
+
+    @Override
+    public long getMedianLatencyNanos() {
+        return latencyHistogram.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getLatency99thPercentileNanos() {
+        return latencyHistogram.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getLatency999thPercentileNanos() {
+        return latencyHistogram.getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public long getMaximumLatencyNanos() {
+        return latencyHistogram.getMaximum();
+    }
+
+    @Override
+    public long getTotalInputLength() {
+        return totalInputLength.sum();
+    }
+
+    @Override
+    public long getTotalOutputLength() {
+        return totalOutputLength.sum();
+    }
+
+    @Override
+    public long getTotalAllocatedBytes() {
+        return totalAllocatedBytes.sum();
+    }
+
+    @Override
+    public double getMeanAllocatedBytes() {
+        final long trackedCallCount = allocationTrackedCallCount.sum();
+        return trackedCallCount != 0
+               ? (double) totalAllocatedBytes.sum() / trackedCallCount
+               : 0;
+    }
+
+    @Override
+    public void reset() {
+        latencyHistogram.reset();
+        totalInputLength.reset();
+        totalOutputLength.reset();
+        totalAllocatedBytes.reset();
+        allocationTrackedCallCount.reset();
+    }
+}
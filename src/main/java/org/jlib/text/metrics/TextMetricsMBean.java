@@ -0,0 +1,61 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+/**
+ * JMX management interface of the {@link TextMetrics}.
+ *
+ * @author Igor Akkerman
+ */
+public interface TextMetricsMBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    boolean isAllocationTrackingEnabled();
+
+    void setAllocationTrackingEnabled(boolean allocationTrackingEnabled);
+
+    long getCallCount();
+
+    double getMeanLatencyNanos();
+
+    long getMedianLatencyNanos();
+
+    long getLatency99thPercentileNanos();
+
+    long getLatency999thPercentileNanos();
+
+    long getMaximumLatencyNanos();
+
+    long getTotalInputLength();
+
+    long getTotalOutputLength();
+
+    long getTotalAllocatedBytes();
+
+    double getMeanAllocatedBytes();
+
+    void reset();
+}
@@ -0,0 +1,30 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+/**
+ * jlib text metrics. {@link org.jlib.text.metrics.TextMetrics} records call counts, latencies, text lengths and
+ * allocated bytes of {@link org.jlib.text.transformer.StringTransformer}s and
+ * {@link org.jlib.text.templateengine.TemplateEngine}s and exposes them as JMX MBean.
+ *
+ * @author Igor Akkerman
+ */
+package org.jlib.text.metrics;
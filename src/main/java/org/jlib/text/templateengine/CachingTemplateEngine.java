@@ -0,0 +1,341 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * {@link TemplateEngine} wrapping another {@link TemplateEngine} and caching the rendered texts by template and
+ * argument values. Lookups do not lock.
+ * </p>
+ * <p>
+ * The number of cached texts is bounded. Each lookup is recorded in a frequency sketch. When the cache is full, a
+ * newly rendered text is only cached if it has been requested more frequently than the least frequently requested of
+ * a few randomly sampled cached texts, which is then evicted. Texts requested only once thus never displace texts
+ * requested repeatedly.
+ * </p>
+ * <p>
+ * Texts are only cached if the template is a {@link String} and each argument matches the cacheable argument
+ * {@link Predicate}. By default, only immutable values of low cardinality are cacheable, see
+ * {@link #isImmutableValue(Object)}. All other texts bypass the cache.
+ * </p>
+ * <p>
+ * As the wrapped {@link TemplateEngine} may format the arguments for the default {@link Locale.Category#FORMAT}
+ * {@link Locale}, the texts are cached per default {@link Locale}, too.
+ * </p>
+ *
+ * @param <Argument>
+ *        type of the arguments
+ *
+ * @author Igor Akkerman
+ */
+public final class CachingTemplateEngine<Argument>
+    implements TemplateEngine<Argument> {
+
+    /** maximum length of a cacheable {@link String} argument */
+    public static final int MAXIMUM_CACHEABLE_STRING_LENGTH = 64;
+
+    /** number of cached texts sampled when choosing the text to evict */
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    /** wrapped {@link TemplateEngine} */
+    private final TemplateEngine<Argument> delegateTemplateEngine;
+
+    /** {@link Predicate} verifying whether an argument is cacheable */
+    private final Predicate<Object> cacheableArgument;
+
+    /** maximum number of cached texts */
+    private final int maximumSize;
+
+    /** cached texts by {@link RenderingKey} */
+    private final ConcurrentMap<RenderingKey, String> renderedTexts;
+
+    /** keys of the cached texts; the first {@link #cachedTextCount} slots are used */
+    private final RenderingKey[] keySlots;
+
+    /** number of used key slots */
+    private int cachedTextCount;
+
+    /** frequencies of the requested texts */
+    private final FrequencySketch frequencySketch;
+
+    /** number of requests answered from the cache */
+    private final LongAdder hitCount = new LongAdder();
+
+    /** number of cacheable requests rendered by the wrapped {@link TemplateEngine} */
+    private final LongAdder missCount = new LongAdder();
+
+    /** number of requests bypassing the cache */
+    private final LongAdder bypassCount = new LongAdder();
+
+    /**
+     * Creates a new CachingTemplateEngine caching only arguments satisfying {@link #isImmutableValue(Object)}.
+     *
+     * @param delegateTemplateEngine
+     *        wrapped {@link TemplateEngine} rendering the texts
+     *
+     * @param maximumSize
+     *        integer specifying the maximum number of cached texts
+     *
+     * @throws IllegalArgumentException
+     *         if {@code maximumSize < 1}
+     */
+    public CachingTemplateEngine(final TemplateEngine<Argument> delegateTemplateEngine, final int maximumSize) {
+        this(delegateTemplateEngine, maximumSize, CachingTemplateEngine::isImmutableValue);
+    }
+
+    /**
+     * Creates a new CachingTemplateEngine.
+     *
+     * @param delegateTemplateEngine
+     *        wrapped {@link TemplateEngine} rendering the texts
+     *
+     * @param maximumSize
+     *        integer specifying the maximum number of cached texts
+     *
+     * @param cacheableArgument
+     *        {@link Predicate} verifying whether an argument is cacheable; it must only accept immutable arguments
+     *        with proper {@link Object#equals(Object)} and {@link Object#hashCode()} implementations
+     *
+     * @throws IllegalArgumentException
+     *         if {@code maximumSize < 1}
+     */
+    public CachingTemplateEngine(final TemplateEngine<Argument> delegateTemplateEngine, final int maximumSize,
+                                 final Predicate<Object> cacheableArgument) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("maximumSize=" + maximumSize);
+
+        this.delegateTemplateEngine = delegateTemplateEngine;
+        this.maximumSize = maximumSize;
+        this.cacheableArgument = cacheableArgument;
+
+        renderedTexts = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+        keySlots = new RenderingKey[maximumSize];
+        frequencySketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Verifies whether the specified argument is an immutable value of typically low cardinality, that is,
+     * {@code null}, an {@link Enum}, a {@link Boolean}, a {@link Character}, a boxed integral number or a
+     * {@link String} not longer than {@link #MAXIMUM_CACHEABLE_STRING_LENGTH}. Floating point numbers, typically
+     * measured values of high cardinality, are not cacheable.
+     *
+     * @param argument
+     *        {@link Object} to verify
+     *
+     * @return {@code true} if {@code argument} is an immutable value of typically low cardinality;
+     *         {@code false} otherwise
+     */
+    public static boolean isImmutableValue(final Object argument) {
+        return argument == null ||
+               argument instanceof Enum ||
+               argument instanceof Integer || argument instanceof Long ||
+               argument instanceof Short || argument instanceof Byte ||
+               argument instanceof Boolean || argument instanceof Character ||
+               argument instanceof String && ((String) argument).length() <= MAXIMUM_CACHEABLE_STRING_LENGTH;
+    }
+
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final String applyArguments(final CharSequence template, final Argument... arguments) {
+        if (! isCacheable(template, arguments)) {
+            bypassCount.increment();
+            return delegateTemplateEngine.applyArguments(template, arguments);
+        }
+
+        final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        final RenderingKey lookupKey = new RenderingKey((String) template, locale, arguments);
+        frequencySketch.increment(lookupKey.hash);
+
+        final String cachedText = renderedTexts.get(lookupKey);
+        if (cachedText != null) {
+            hitCount.increment();
+            return cachedText;
+        }
+
+        missCount.increment();
+
+        final String renderedText = delegateTemplateEngine.applyArguments(template, arguments);
+        admit(new RenderingKey((String) template, locale, arguments.clone()), renderedText);
+        return renderedText;
+    }
+
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final void applyArgumentsTo(final Appendable target, final CharSequence template,
+                                       final Argument... arguments)
+        throws IOException {
+        if (! isCacheable(template, arguments)) {
+            bypassCount.increment();
+            delegateTemplateEngine.applyArgumentsTo(target, template, arguments);
+            return;
+        }
+
+        target.append(applyArguments(template, arguments));
+    }
+
+    private boolean isCacheable(final CharSequence template, final Object[] arguments) {
+        if (! (template instanceof String) || arguments == null)
+            return false;
+
+        for (final Object argument : arguments)
+            if (! cacheableArgument.test(argument))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Caches the specified rendered text if there is space left or if it is requested more frequently than a sampled
+     * cached text, which is then evicted.
+     */
+    private synchronized void admit(final RenderingKey key, final String renderedText) {
+        if (renderedTexts.containsKey(key))
+            return;
+
+        final int slotIndex;
+        if (cachedTextCount < maximumSize)
+            slotIndex = cachedTextCount++;
+        else {
+            slotIndex = sampleVictimSlotIndex();
+
+            final RenderingKey victimKey = keySlots[slotIndex];
+            if (frequencySketch.frequency(key.hash) <= frequencySketch.frequency(victimKey.hash))
+                return;
+
+            renderedTexts.remove(victimKey);
+        }
+
+        keySlots[slotIndex] = key;
+        renderedTexts.put(key, renderedText);
+    }
+
+    private int sampleVictimSlotIndex() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        int victimSlotIndex = random.nextInt(maximumSize);
+        int victimFrequency = frequencySketch.frequency(keySlots[victimSlotIndex].hash);
+
+        for (int sampleIndex = 1; sampleIndex < EVICTION_SAMPLE_SIZE; sampleIndex++) {
+            final int slotIndex = random.nextInt(maximumSize);
+            final int frequency = frequencySketch.frequency(keySlots[slotIndex].hash);
+            if (frequency < victimFrequency) {
+                victimSlotIndex = slotIndex;
+                victimFrequency = frequency;
+            }
+        }
+
+        return victimSlotIndex;
+    }
+
+    /**
+     * Returns the number of requests answered from the cache.
+     *
+     * @return long specifying the number of hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of cacheable requests rendered by the wrapped {@link TemplateEngine}.
+     *
+     * @return long specifying the number of misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of requests bypassing the cache as the template or an argument is not cacheable.
+     *
+     * @return long specifying the number of bypasses
+     */
+    public long getBypassCount() {
+        return bypassCount.sum();
+    }
+
+    /**
+     * Returns the number of currently cached texts.
+     *
+     * @return integer specifying the number of cached texts
+     */
+    public int size() {
+        return renderedTexts.size();
+    }
+
+    /**
+     * Key of a rendered text consisting of the template, the default {@link Locale} and the arguments.
+     */
+    private static final class RenderingKey {
+
+        /** template */
+        private final String template;
+
+        /** default {@link Locale.Category#FORMAT} {@link Locale} when rendering the text */
+        private final Locale locale;
+
+        /** arguments applied on the template */
+        private final Object[] arguments;
+
+        /** precomputed hash code */
+        private final int hash;
+
+        private RenderingKey(final String template, final Locale locale, final Object[] arguments) {
+            this.template = template;
+            this.locale = locale;
+            this.arguments = arguments;
+
+            hash = 31 * (31 * template.hashCode() + locale.hashCode()) + Arrays.hashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(final Object otherObject) {
+            if (this == otherObject)
+                return true;
+
+            if (! (otherObject instanceof RenderingKey))
+                return false;
+
+            final RenderingKey otherKey = (RenderingKey) otherObject;
+
+            return hash == otherKey.hash && template.equals(otherKey.template) && locale.equals(otherKey.locale) &&
+                   Arrays.equals(arguments, otherKey.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
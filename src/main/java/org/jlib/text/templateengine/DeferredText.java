@@ -0,0 +1,121 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+/**
+ * <p>
+ * {@link CharSequence} containing the result of applying arguments to a template, rendered by a {@link TemplateEngine}
+ * only when its content is first accessed by {@link #length()}, {@link #charAt(int)}, {@link #subSequence(int, int)}
+ * or {@link #toString()}. The rendered text is memoized; concurrent first accesses render it exactly once.
+ * </p>
+ * <p>
+ * As the arguments are applied on the first access, changes to mutable arguments made before are reflected by the
+ * rendered text. After rendering, the template and the arguments are released.
+ * </p>
+ *
+ * @param <Argument>
+ *        type of the arguments
+ *
+ * @author Igor Akkerman
+ */
+public final class DeferredText<Argument>
+    implements CharSequence {
+
+    /** {@link TemplateEngine} rendering the text; {@code null} after rendering */
+    private TemplateEngine<Argument> templateEngine;
+
+    /** template; {@code null} after rendering */
+    private CharSequence template;
+
+    /** arguments applied on the template; {@code null} after rendering */
+    private Argument[] arguments;
+
+    /** rendered text; {@code null} before rendering */
+    private volatile String renderedText;
+
+    /**
+     * Creates a new DeferredText.
+     *
+     * @param templateEngine
+     *        {@link TemplateEngine} rendering the text
+     *
+     * @param template
+     *        {@link CharSequence} template containing the placeholders
+     *
+     * @param arguments
+     *        array of {@link Object}s applied on {@code template}
+     */
+    DeferredText(final TemplateEngine<Argument> templateEngine, final CharSequence template,
+                 final Argument[] arguments) {
+        this.templateEngine = templateEngine;
+        this.template = template;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Verifies whether the text has been rendered.
+     *
+     * @return {@code true} if the text has been rendered; {@code false} otherwise
+     */
+    public boolean isRendered() {
+        return renderedText != null;
+    }
+
+    @Override
+    public int length() {
+        return render().length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return render().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int startIndex, final int endIndex) {
+        return render().subSequence(startIndex, endIndex);
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+
+    private String render() {
+        final String text = renderedText;
+        if (text != null)
+            return text;
+
+        synchronized (this) {
+            if (renderedText == null) {
+                renderedText = templateEngine.applyArguments(template, arguments);
+
+                templateEngine = null;
+                template = null;
+                arguments = null;
+            }
+
+            return renderedText;
+        }
+    }
+}
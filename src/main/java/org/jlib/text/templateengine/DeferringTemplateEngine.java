@@ -0,0 +1,88 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.IOException;
+
+/**
+ * {@link TemplateEngine} wrapping another {@link TemplateEngine} and additionally providing {@link DeferredText}s,
+ * rendered by the wrapped {@link TemplateEngine} only when their content is first accessed. Text which is never
+ * accessed, for example, a message logged at a disabled level, thus costs a single small object instead of the full
+ * formatting.
+ *
+ * @param <Argument>
+ *        type of the arguments
+ *
+ * @author Igor Akkerman
+ */
+public final class DeferringTemplateEngine<Argument>
+    implements TemplateEngine<Argument> {
+
+    /** wrapped {@link TemplateEngine} */
+    private final TemplateEngine<Argument> delegateTemplateEngine;
+
+    /**
+     * Creates a new DeferringTemplateEngine.
+     *
+     * @param delegateTemplateEngine
+     *        wrapped {@link TemplateEngine} rendering the text
+     */
+    public DeferringTemplateEngine(final TemplateEngine<Argument> delegateTemplateEngine) {
+        this.delegateTemplateEngine = delegateTemplateEngine;
+    }
+
+    /**
+     * Returns a {@link DeferredText} applying the specified arguments to the specified template when its content is
+     * first accessed.
+     *
+     * @param template
+     *        {@link CharSequence} template containing the placeholders
+     *
+     * @param arguments
+     *        array of {@link Object}s applied on {@code template}
+     *
+     * @return the {@link DeferredText}
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final DeferredText<Argument> applyArgumentsDeferred(final CharSequence template,
+                                                               final Argument... arguments) {
+        return new DeferredText<>(delegateTemplateEngine, template, arguments);
+    }
+
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final String applyArguments(final CharSequence template, final Argument... arguments) {
+        return delegateTemplateEngine.applyArguments(template, arguments);
+    }
+
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final void applyArgumentsTo(final Appendable target, final CharSequence template,
+                                       final Argument... arguments)
+        throws IOException {
+        delegateTemplateEngine.applyArgumentsTo(target, template, arguments);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.IOException;
+
+import org.jlib.text.metrics.TextEvent;
+import org.jlib.text.metrics.TextEventRecorder;
+import org.jlib.text.metrics.TextMetrics;
+
+/**
+ * {@link TemplateEngine} decorating another {@link TemplateEngine} and recording each call as {@link TextEvent}, by
+ * default using the JDK Flight Recorder if available. The length of a text rendered into an {@link Appendable} is not
+ * recorded.
+ *
+ * @param <Argument>
+ *        type of the arguments
+ *
+ * @author Igor Akkerman
+ */
+public final class EventRecordingTemplateEngine<Argument>
+    implements TemplateEngine<Argument> {
+
+    /** decorated {@link TemplateEngine} */
+    private final TemplateEngine<Argument> delegateTemplateEngine;
+
+    /** name of this EventRecordingTemplateEngine recorded with the events */
+    private final String name;
+
+    /** {@link TextEventRecorder} recording the events */
+    private final TextEventRecorder eventRecorder;
+
+    /**
+     * Creates a new EventRecordingTemplateEngine using {@link TextEventRecorder#flightRecorder()}.
+     *
+     * @param delegateTemplateEngine
+     *        decorated {@link TemplateEngine}
+     *
+     * @param name
+     *        {@link String} specifying the name recorded with the events
+     */
+    public EventRecordingTemplateEngine(final TemplateEngine<Argument> delegateTemplateEngine, final String name) {
+        this(delegateTemplateEngine, name, TextEventRecorder.flightRecorder());
+    }
+
+    /**
+     * Creates a new EventRecordingTemplateEngine.
+     *
+     * @param delegateTemplateEngine
+     *        decorated {@link TemplateEngine}
+     *
+     * @param name
+     *        {@link String} specifying the name recorded with the events
+     *
+     * @param eventRecorder
+     *        {@link TextEventRecorder} recording the events
+     */
+    public EventRecordingTemplateEngine(final TemplateEngine<Argument> delegateTemplateEngine, final String name,
+                                        final TextEventRecorder eventRecorder) {
+        this.delegateTemplateEngine = delegateTemplateEngine;
+        this.name = name;
+        this.eventRecorder = eventRecorder;
+    }
+
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final String applyArguments(final CharSequence template, final Argument... arguments) {
+        final TextEvent event = eventRecorder.beginTemplateRendering(name, template, argumentCount(arguments));
+
+        final String text = delegateTemplateEngine.applyArguments(template, arguments);
+
+        event.commit(text.length());
+
+        return text;
+    }
+
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final void applyArgumentsTo(final Appendable target, final CharSequence template,
+                                       final Argument... arguments)
+        throws IOException {
+        final TextEvent event = eventRecorder.beginTemplateRendering(name, template, argumentCount(arguments));
+
+        delegateTemplateEngine.applyArgumentsTo(target, template, arguments);
+
+        event.commit(TextMetrics.UNKNOWN_LENGTH);
+    }
+
+    private static int argumentCount(final Object[] arguments) {
+        return arguments != null
+               ? arguments.length
+               : 0;
+    }
+}
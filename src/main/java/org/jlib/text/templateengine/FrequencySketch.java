@@ -0,0 +1,122 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+/**
+ * <p>
+ * Approximate frequency counter of hash codes, implemented as a count-min sketch with four rows of saturating
+ * counters. The counters are halved periodically, so the frequencies reflect the recent history.
+ * </p>
+ * <p>
+ * Concurrent updates are not synchronized; a lost update only makes a frequency slightly less accurate.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+final class FrequencySketch {
+
+    /** maximum value of a counter */
+    private static final int MAXIMUM_FREQUENCY = 15;
+
+    /** minimum number of counters, limiting collisions for small expected counts */
+    private static final int MINIMUM_COUNTER_COUNT = 1024;
+
+    /** seeds of the four rows */
+    private static final int[] SEEDS = { 0x97CB3127, 0xB3A7F5C1, 0x5E0C4F27, 0x1B873593 };
+
+    /** counters of all rows */
+    private final int[] counters;
+
+    /** mask of a counter index */
+    private final int indexMask;
+
+    /** number of counter increments after which all counters are halved */
+    private final int samplePeriod;
+
+    /** number of counter increments since the last halving */
+    private int incrementCount;
+
+    /**
+     * Creates a new FrequencySketch.
+     *
+     * @param expectedDistinctCount
+     *        integer specifying the expected number of distinct frequently counted hash codes
+     */
+    FrequencySketch(final int expectedDistinctCount) {
+        final int counterCount = Integer.highestOneBit(Math.max(MINIMUM_COUNTER_COUNT, expectedDistinctCount * 16) - 1)
+                                 << 1;
+
+        counters = new int[counterCount];
+        indexMask = counterCount - 1;
+        samplePeriod = 10 * Math.max(16, expectedDistinctCount);
+    }
+
+    /**
+     * Returns the estimated frequency of the specified hash code.
+     *
+     * @param hash
+     *        integer specifying the hash code
+     *
+     * @return integer specifying the estimated frequency
+     */
+    int frequency(final int hash) {
+        int frequency = MAXIMUM_FREQUENCY;
+        for (int row = 0; row < SEEDS.length; row++)
+            frequency = Math.min(frequency, counters[index(hash, row)]);
+        return frequency;
+    }
+
+    /**
+     * Increments the estimated frequency of the specified hash code.
+     *
+     * @param hash
+     *        integer specifying the hash code
+     */
+    void increment(final int hash) {
+        boolean incremented = false;
+
+        for (int row = 0; row < SEEDS.length; row++) {
+            final int index = index(hash, row);
+            if (counters[index] < MAXIMUM_FREQUENCY) {
+                counters[index]++;
+                incremented = true;
+            }
+        }
+
+        if (incremented && ++ incrementCount >= samplePeriod)
+            halve();
+    }
+
+    private void halve() {
+        for (int index = 0; index < counters.length; index++)
+            counters[index] >>>= 1;
+
+        incrementCount /= 2;
+    }
+
+    private int index(final int hash, final int row) {
+        int spreadHash = (hash ^ SEEDS[row]) * 0x9E3779B9;
+        spreadHash ^= spreadHash >>> 16;
+        return spreadHash & indexMask;
+    }
+}
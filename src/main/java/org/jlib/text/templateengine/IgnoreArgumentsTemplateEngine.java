@@ -21,6 +21,8 @@
 
 package org.jlib.text.templateengine;
 
+import java.io.IOException;
+
 import lombok.NoArgsConstructor;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -53,4 +55,12 @@ public final class IgnoreArgumentsTemplateEngine<Argument>
     public final String applyArguments(final CharSequence template, final Argument... arguments) {
         return template.toString();
     }
+
+    @Override
+    @SafeVarargs
+    public final void applyArgumentsTo(final Appendable target, final CharSequence template,
+                                       final Argument... arguments)
+        throws IOException {
+        target.append(template);
+    }
 }
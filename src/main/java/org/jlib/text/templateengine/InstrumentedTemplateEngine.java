@@ -0,0 +1,108 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.IOException;
+
+import org.jlib.text.metrics.TextMetrics;
+
+/**
+ * {@link TemplateEngine} decorating another {@link TemplateEngine} and recording its calls in a {@link TextMetrics}:
+ * latency, length of the template and of the rendered text and, if enabled, the allocated bytes. The length of a text
+ * rendered into an {@link Appendable} is not recorded. If the {@link TextMetrics} is disabled, the delegate is called
+ * directly.
+ *
+ * @param <Argument>
+ *        type of the arguments
+ *
+ * @author Igor Akkerman
+ */
+public final class InstrumentedTemplateEngine<Argument>
+    implements TemplateEngine<Argument> {
+
+    /** decorated {@link TemplateEngine} */
+    private final TemplateEngine<Argument> delegateTemplateEngine;
+
+    /** {@link TextMetrics} recording the calls */
+    private final TextMetrics metrics;
+
+    /**
+     * Creates a new InstrumentedTemplateEngine.
+     *
+     * @param delegateTemplateEngine
+     *        decorated {@link TemplateEngine}
+     *
+     * @param metrics
+     *        {@link TextMetrics} recording the calls
+     */
+    public InstrumentedTemplateEngine(final TemplateEngine<Argument> delegateTemplateEngine,
+                                      final TextMetrics metrics) {
+        this.delegateTemplateEngine = delegateTemplateEngine;
+        this.metrics = metrics;
+    }
+
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final String applyArguments(final CharSequence template, final Argument... arguments) {
+        if (! metrics.isEnabled())
+            return delegateTemplateEngine.applyArguments(template, arguments);
+
+        final long startAllocatedBytes = metrics.currentThreadAllocatedBytes();
+        final long startNanos = System.nanoTime();
+
+        final String text = delegateTemplateEngine.applyArguments(template, arguments);
+
+        metrics.record(startNanos, startAllocatedBytes, template.length(), text.length());
+
+        return text;
+    }
+
+    @Override
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public final void applyArgumentsTo(final Appendable target, final CharSequence template,
+                                       final Argument... arguments)
+        throws IOException {
+        if (! metrics.isEnabled()) {
+            delegateTemplateEngine.applyArgumentsTo(target, template, arguments);
+            return;
+        }
+
+        final long startAllocatedBytes = metrics.currentThreadAllocatedBytes();
+        final long startNanos = System.nanoTime();
+
+        delegateTemplateEngine.applyArgumentsTo(target, template, arguments);
+
+        metrics.record(startNanos, startAllocatedBytes, template.length(), TextMetrics.UNKNOWN_LENGTH);
+    }
+
+    /**
+     * Returns the {@link TextMetrics} recording the calls.
+     *
+     * @return the {@link TextMetrics}
+     */
+    public TextMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.text.MessageFormat;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * Small lock-free pool of equal {@link MessageFormat} instances parsed once from the same template. As a
+ * {@link MessageFormat} is not thread-safe, each thread acquires an instance for exclusive use and releases it
+ * afterwards.
+ * </p>
+ * <p>
+ * If all pooled instances are in use, a new instance is cloned from the prototype. If the pool is full, a released
+ * instance is discarded.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+final class MessageFormatPool {
+
+    /** parsed {@link MessageFormat} from which new instances are cloned; never used for formatting */
+    private final MessageFormat prototype;
+
+    /** pooled {@link MessageFormat} instances; {@code null} for an empty slot */
+    private final AtomicReferenceArray<MessageFormat> pooledFormats;
+
+    /**
+     * Creates a new MessageFormatPool.
+     *
+     * @param prototype
+     *        parsed {@link MessageFormat} from which new instances are cloned
+     *
+     * @param poolSize
+     *        integer specifying the maximum number of pooled instances
+     */
+    MessageFormatPool(final MessageFormat prototype, final int poolSize) {
+        this.prototype = prototype;
+        pooledFormats = new AtomicReferenceArray<>(poolSize);
+    }
+
+    /**
+     * Acquires a {@link MessageFormat} for exclusive use by the current thread.
+     *
+     * @return a pooled or newly cloned {@link MessageFormat}
+     */
+    MessageFormat acquire() {
+        for (int slotIndex = 0; slotIndex < pooledFormats.length(); slotIndex++) {
+            final MessageFormat pooledFormat = pooledFormats.getAndSet(slotIndex, null);
+            if (pooledFormat != null)
+                return pooledFormat;
+        }
+
+        return (MessageFormat) prototype.clone();
+    }
+
+    /**
+     * Releases the specified {@link MessageFormat} previously acquired from this MessageFormatPool.
+     *
+     * @param format
+     *        released {@link MessageFormat}
+     */
+    void release(final MessageFormat format) {
+        for (int slotIndex = 0; slotIndex < pooledFormats.length(); slotIndex++)
+            if (pooledFormats.get(slotIndex) == null && pooledFormats.compareAndSet(slotIndex, null, format))
+                return;
+    }
+}
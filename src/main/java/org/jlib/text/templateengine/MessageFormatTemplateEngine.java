@@ -21,7 +21,14 @@
 
 package org.jlib.text.templateengine;
 
+import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map.Entry;
+
+import org.jlib.text.BoundedConcurrentCache;
 
 import static lombok.AccessLevel.PRIVATE;
 import lombok.NoArgsConstructor;
@@ -29,6 +36,8 @@ import lombok.NoArgsConstructor;
 /**
  * {@link TemplateEngine} using the {@link MessageFormat} template format and processing routine. Implemented as a
  * singleton.
+ * Each template is parsed once per {@link Locale}; the parsed {@link MessageFormat}s are cached in a bounded cache and
+ * reused concurrently through a small pool of copies.
  *
  * @see MessageFormat#format(String, Object...)
  *
@@ -41,8 +50,115 @@ public final class MessageFormatTemplateEngine
     public static final MessageFormatTemplateEngine MESSAGE_FORMAT_TEMPLATE_ENGINE = new MessageFormatTemplateEngine();
     public static final MessageFormatTemplateEngine INSTANCE = new MessageFormatTemplateEngine();
 
+    /** maximum number of cached templates */
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+
+    /** maximum number of pooled {@link MessageFormat} instances per template */
+    private static final int POOL_SIZE = 4;
+
+    /** {@link MessageFormatPool}s by template and {@link Locale} */
+    private static final BoundedConcurrentCache<Entry<String, Locale>, MessageFormatPool> TEMPLATE_CACHE =
+        new BoundedConcurrentCache<>(TEMPLATE_CACHE_SIZE);
+
     @Override
     public final String applyArguments(final CharSequence template, final Object... arguments) {
-        return MessageFormat.format(template.toString(), arguments);
+        return applyArguments(Locale.getDefault(Locale.Category.FORMAT), template, arguments);
+    }
+
+    /**
+     * Applies the specified arguments to the specified template using the specified {@link Locale}.
+     *
+     * @param locale
+     *        {@link Locale} used to parse {@code template} and to format the arguments
+     *
+     * @param template
+     *        {@link CharSequence} template containing the placeholders
+     *
+     * @param arguments
+     *        array of {@link Object}s applied on {@code template}
+     *
+     * @return {@link String} specifying the formatted text
+     *
+     * @throws IllegalArgumentException
+     *         if {@code template} is invalid or an argument does not match its placeholder
+     */
+    public String applyArguments(final Locale locale, final CharSequence template, final Object... arguments) {
+        return format(locale, template, arguments, new StringBuffer()).toString();
+    }
+
+    @Override
+    public void applyArgumentsTo(final Appendable target, final CharSequence template, final Object... arguments)
+        throws IOException {
+        applyArgumentsTo(target, Locale.getDefault(Locale.Category.FORMAT), template, arguments);
+    }
+
+    /**
+     * Applies the specified arguments to the specified template using the specified {@link Locale} and appends the
+     * result to the specified {@link Appendable}. A {@link StringBuffer} target is written directly.
+     *
+     * @param target
+     *        {@link Appendable} to which the result is appended
+     *
+     * @param locale
+     *        {@link Locale} used to parse {@code template} and to format the arguments
+     *
+     * @param template
+     *        {@link CharSequence} template containing the placeholders
+     *
+     * @param arguments
+     *        array of {@link Object}s applied on {@code template}
+     *
+     * @throws IOException
+     *         if an I/O error occurs appending to {@code target}
+     *
+     * @throws IllegalArgumentException
+     *         if {@code template} is invalid or an argument does not match its placeholder
+     */
+    public void applyArgumentsTo(final Appendable target, final Locale locale, final CharSequence template,
+                                 final Object... arguments)
+        throws IOException {
+        if (target instanceof StringBuffer) {
+            format(locale, template, arguments, (StringBuffer) target);
+            return;
+        }
+
+        target.append(format(locale, template, arguments, new StringBuffer()));
+    }
+
+    private static StringBuffer format(final Locale locale, final CharSequence template, final Object[] arguments,
+                                       final StringBuffer target) {
+        final MessageFormatPool pool =
+            TEMPLATE_CACHE.get(new SimpleImmutableEntry<>(template.toString(), locale),
+                               key -> new MessageFormatPool(new MessageFormat(key.getKey(), key.getValue()),
+                                                            POOL_SIZE));
+
+        final MessageFormat format = pool.acquire();
+        try {
+            return format.format(arguments, target, null);
+        }
+        finally {
+            pool.release(format);
+        }
+    }
+
+    /**
+     * Applies the specified arguments to the specified template using the specified {@link Locale}.
+     *
+     * @param locale
+     *        {@link Locale} used to parse {@code template} and to format the arguments
+     *
+     * @param template
+     *        {@link CharSequence} template containing the placeholders
+     *
+     * @param arguments
+     *        {@link List} of {@link Object}s applied on {@code template}
+     *
+     * @return {@link String} specifying the formatted text
+     *
+     * @throws IllegalArgumentException
+     *         if {@code template} is invalid or an argument does not match its placeholder
+     */
+    public String applyArguments(final Locale locale, final CharSequence template, final List<Object> arguments) {
+        return applyArguments(locale, template, arguments.toArray());
     }
 }
@@ -0,0 +1,383 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * <p>
+ * Template containing positional placeholders, such as <code>{0}</code>, and named placeholders, such as
+ * <code>${name}</code>, parsed once into a sequence of literal text segments and argument indices. Applying arguments
+ * to a PlaceholderTemplate appends the literal segments and the argument values directly to the target, without
+ * regular expressions or per placeholder lookups.
+ * </p>
+ * <p>
+ * A positional placeholder <code>{n}</code> refers to the argument with index {@code n}. The named placeholders are
+ * numbered in the order of the first occurrence of their names, see {@link #getNames()}; their arguments follow the
+ * positional arguments, that is, the argument of the name with index {@code i} has the index
+ * {@code getPositionalArgumentCount() + i}. {@link #getArgumentIndex(String)} returns this index, so callers may
+ * resolve names once and reuse the index for any number of renderings.
+ * </p>
+ * <p>
+ * A positional placeholder index must not exceed {@link #MAXIMUM_POSITIONAL_INDEX}, as for
+ * {@link java.text.MessageFormat}, so a template cannot require an absurd number of arguments. A name consists of
+ * letters, digits and the characters {@code _}, {@code .} and {@code -}. Any brace or dollar sign not forming a valid
+ * placeholder is literal text. An argument is rendered as by {@link String#valueOf(Object)}; {@link CharSequence}
+ * arguments are appended without conversion.
+ * </p>
+ * <p>
+ * There is no escape syntax, so a literal text having the form of a placeholder, such as <code>{0}</code>, cannot be
+ * part of a template. It may be passed as an argument instead, as arguments are not parsed.
+ * </p>
+ * <p>
+ * A PlaceholderTemplate is immutable and may be shared by any number of threads.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class PlaceholderTemplate {
+
+    /** highest index of a positional placeholder */
+    public static final int MAXIMUM_POSITIONAL_INDEX = 9999;
+
+    /** template text */
+    private final String template;
+
+    /** literal text segments; the segment with index {@code i} precedes the placeholder with index i */
+    private final String[] literals;
+
+    /** indices of the arguments rendered by the placeholders */
+    private final int[] argumentIndices;
+
+    /** number of positional arguments, that is, the highest positional placeholder index plus one */
+    private final int positionalArgumentCount;
+
+    /** distinct names of the named placeholders in the order of their first occurrence */
+    private final String[] names;
+
+    /** total length of the literal text segments */
+    private final int literalsLength;
+
+    /**
+     * Parses the specified template.
+     *
+     * @param template
+     *        {@link CharSequence} containing the template
+     *
+     * @return the parsed PlaceholderTemplate
+     *
+     * @throws IllegalArgumentException
+     *         if the index of a positional placeholder exceeds {@link #MAXIMUM_POSITIONAL_INDEX}
+     */
+    public static PlaceholderTemplate compile(final CharSequence template) {
+        return new PlaceholderTemplate(template.toString());
+    }
+
+    private PlaceholderTemplate(final String template) {
+        this.template = template;
+
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> positionalIndices = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        final List<Integer> nameIndices = new ArrayList<>();
+
+        final StringBuilder literalBuilder = new StringBuilder();
+        final int length = template.length();
+        int characterIndex = 0;
+        int maximumPositionalIndex = - 1;
+
+        while (characterIndex < length) {
+            final char character = template.charAt(characterIndex);
+
+            if (character == '{') {
+                final int digitsEndIndex = skipDigits(template, characterIndex + 1);
+                if (digitsEndIndex > characterIndex + 1 && digitsEndIndex < length &&
+                    template.charAt(digitsEndIndex) == '}') {
+
+                    final int positionalIndex = parsePositionalIndex(template, characterIndex + 1, digitsEndIndex);
+
+                    literals.add(literalBuilder.toString());
+                    literalBuilder.setLength(0);
+                    positionalIndices.add(positionalIndex);
+                    nameIndices.add(- 1);
+                    maximumPositionalIndex = Math.max(maximumPositionalIndex, positionalIndex);
+
+                    characterIndex = digitsEndIndex + 1;
+                    continue;
+                }
+            }
+            else if (character == '$' && characterIndex + 1 < length && template.charAt(characterIndex + 1) == '{') {
+                final int nameEndIndex = skipNameCharacters(template, characterIndex + 2);
+                if (nameEndIndex > characterIndex + 2 && nameEndIndex < length && template.charAt(nameEndIndex) == '}') {
+                    final String name = template.substring(characterIndex + 2, nameEndIndex);
+
+                    int nameIndex = names.indexOf(name);
+                    if (nameIndex == - 1) {
+                        nameIndex = names.size();
+                        names.add(name);
+                    }
+
+                    literals.add(literalBuilder.toString());
+                    literalBuilder.setLength(0);
+                    positionalIndices.add(- 1);
+                    nameIndices.add(nameIndex);
+
+                    characterIndex = nameEndIndex + 1;
+                    continue;
+                }
+            }
+
+            literalBuilder.append(character);
+            characterIndex++;
+        }
+
+        literals.add(literalBuilder.toString());
+
+        this.literals = literals.toArray(new String[0]);
+        this.names = names.toArray(new String[0]);
+        positionalArgumentCount = maximumPositionalIndex + 1;
+
+        argumentIndices = new int[positionalIndices.size()];
+        for (int placeholderIndex = 0; placeholderIndex < argumentIndices.length; placeholderIndex++)
+            argumentIndices[placeholderIndex] = positionalIndices.get(placeholderIndex) != - 1
+                                                ? positionalIndices.get(placeholderIndex)
+                                                : positionalArgumentCount + nameIndices.get(placeholderIndex);
+
+        int literalsLength = 0;
+        for (final String literal : this.literals)
+            literalsLength += literal.length();
+        this.literalsLength = literalsLength;
+    }
+
+    private static int parsePositionalIndex(final String template, final int digitsStartIndex,
+                                            final int digitsEndIndex) {
+        int positionalIndex = 0;
+        for (int digitIndex = digitsStartIndex; digitIndex < digitsEndIndex; digitIndex++) {
+            positionalIndex = 10 * positionalIndex + template.charAt(digitIndex) - '0';
+
+            if (positionalIndex > MAXIMUM_POSITIONAL_INDEX)
+                throw new IllegalArgumentException(String.format("Positional placeholder index too high. " +
+                                                                 "index=%s. maximum=%d.",
+                                                                 template.substring(digitsStartIndex, digitsEndIndex),
+                                                                 MAXIMUM_POSITIONAL_INDEX));
+        }
+
+        return positionalIndex;
+    }
+
+    private static int skipDigits(final String text, final int startIndex) {
+        int index = startIndex;
+        while (index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9')
+            index++;
+        return index;
+    }
+
+    private static int skipNameCharacters(final String text, final int startIndex) {
+        int index = startIndex;
+        while (index < text.length() && isNameCharacter(text.charAt(index)))
+            index++;
+        return index;
+    }
+
+    private static boolean isNameCharacter(final char character) {
+        return Character.isLetterOrDigit(character) || character == '_' || character == '.' || character == '-';
+    }
+
+    /**
+     * Returns the number of positional arguments of this PlaceholderTemplate, that is, the highest index of a
+     * positional placeholder plus one.
+     *
+     * @return integer specifying the number of positional arguments
+     */
+    public int getPositionalArgumentCount() {
+        return positionalArgumentCount;
+    }
+
+    /**
+     * Returns the total number of arguments of this PlaceholderTemplate, that is, the number of positional
+     * arguments plus the number of distinct names.
+     *
+     * @return integer specifying the number of arguments
+     */
+    public int getArgumentCount() {
+        return positionalArgumentCount + names.length;
+    }
+
+    /**
+     * Returns the distinct names of the named placeholders in the order of their first occurrence.
+     *
+     * @return unmodifiable {@link List} of the names
+     */
+    public List<String> getNames() {
+        return unmodifiableList(asList(names));
+    }
+
+    /**
+     * Returns the index of the argument of the named placeholders with the specified name.
+     *
+     * @param name
+     *        {@link String} specifying the name
+     *
+     * @return integer specifying the argument index; {@code -1} if this PlaceholderTemplate contains no placeholder
+     *         with the specified name
+     */
+    public int getArgumentIndex(final String name) {
+        for (int nameIndex = 0; nameIndex < names.length; nameIndex++)
+            if (names[nameIndex].equals(name))
+                return positionalArgumentCount + nameIndex;
+
+        return - 1;
+    }
+
+    /**
+     * Applies the specified arguments to this PlaceholderTemplate and appends the result to the specified
+     * {@link StringBuilder}.
+     *
+     * @param target
+     *        {@link StringBuilder} to which the result is appended
+     *
+     * @param arguments
+     *        array of {@link Object}s specifying the positional arguments followed by the named arguments
+     *
+     * @throws IllegalArgumentException
+     *         if {@code arguments.length < getArgumentCount()}
+     */
+    public void applyArgumentsTo(final StringBuilder target, final Object... arguments) {
+        ensureArgumentCount(arguments.length);
+
+        target.ensureCapacity(target.length() + literalsLength + 8 * argumentIndices.length);
+
+        for (int placeholderIndex = 0; placeholderIndex < argumentIndices.length; placeholderIndex++) {
+            target.append(literals[placeholderIndex]);
+            appendArgument(target, arguments[argumentIndices[placeholderIndex]]);
+        }
+
+        target.append(literals[argumentIndices.length]);
+    }
+
+    /**
+     * Applies the specified arguments to this PlaceholderTemplate and appends the result to the specified
+     * {@link Appendable}.
+     *
+     * @param target
+     *        {@link Appendable} to which the result is appended
+     *
+     * @param arguments
+     *        array of {@link Object}s specifying the positional arguments followed by the named arguments
+     *
+     * @throws IOException
+     *         if an I/O error occurs appending to {@code target}
+     *
+     * @throws IllegalArgumentException
+     *         if {@code arguments.length < getArgumentCount()}
+     */
+    public void applyArgumentsTo(final Appendable target, final Object... arguments)
+        throws IOException {
+        if (target instanceof StringBuilder) {
+            applyArgumentsTo((StringBuilder) target, arguments);
+            return;
+        }
+
+        ensureArgumentCount(arguments.length);
+
+        for (int placeholderIndex = 0; placeholderIndex < argumentIndices.length; placeholderIndex++) {
+            target.append(literals[placeholderIndex]);
+
+            final Object argument = arguments[argumentIndices[placeholderIndex]];
+            target.append(argument instanceof CharSequence
+                          ? (CharSequence) argument
+                          : String.valueOf(argument));
+        }
+
+        target.append(literals[argumentIndices.length]);
+    }
+
+    /**
+     * Applies the specified arguments to this PlaceholderTemplate.
+     *
+     * @param arguments
+     *        array of {@link Object}s specifying the positional arguments followed by the named arguments
+     *
+     * @return {@link String} specifying the rendered text
+     *
+     * @throws IllegalArgumentException
+     *         if {@code arguments.length < getArgumentCount()}
+     */
+    public String applyArguments(final Object... arguments) {
+        final StringBuilder target = new StringBuilder();
+        applyArgumentsTo(target, arguments);
+        return target.toString();
+    }
+
+    /**
+     * Applies the specified named and positional arguments to this PlaceholderTemplate. Each name is looked up once in
+     * {@code namedArguments}, independently of the number of its placeholders.
+     *
+     * @param namedArguments
+     *        {@link Map} of the named arguments by name
+     *
+     * @param positionalArguments
+     *        array of {@link Object}s specifying the positional arguments
+     *
+     * @return {@link String} specifying the rendered text
+     *
+     * @throws IllegalArgumentException
+     *         if {@code positionalArguments.length < getPositionalArgumentCount()}
+     */
+    public String applyArguments(final Map<String, ?> namedArguments, final Object... positionalArguments) {
+        if (positionalArguments.length < positionalArgumentCount)
+            throw new IllegalArgumentException(String.format("Too few positional arguments. #arguments=%d. #required=%d.",
+                                                             positionalArguments.length, positionalArgumentCount));
+
+        final Object[] arguments = new Object[getArgumentCount()];
+        System.arraycopy(positionalArguments, 0, arguments, 0, positionalArgumentCount);
+        for (int nameIndex = 0; nameIndex < names.length; nameIndex++)
+            arguments[positionalArgumentCount + nameIndex] = namedArguments.get(names[nameIndex]);
+
+        return applyArguments(arguments);
+    }
+
+    private void ensureArgumentCount(final int argumentCount) {
+        if (argumentCount < getArgumentCount())
+            throw new IllegalArgumentException(String.format("Too few arguments. #arguments=%d. #required=%d.",
+                                                             argumentCount, getArgumentCount()));
+    }
+
+    private static void appendArgument(final StringBuilder target, final Object argument) {
+        if (argument instanceof CharSequence)
+            target.append((CharSequence) argument);
+        else
+            target.append(argument);
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.IOException;
+
+import org.jlib.text.BoundedConcurrentCache;
+
+import static lombok.AccessLevel.PRIVATE;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link TemplateEngine} using the {@link PlaceholderTemplate} format with positional placeholders, such as
+ * <code>{0}</code>, and named placeholders, such as <code>${name}</code>. Implemented as a singleton.
+ * Templates are compiled once into {@link PlaceholderTemplate}s, kept in a bounded cache shared by all threads.
+ *
+ * @author Igor Akkerman
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class PlaceholderTemplateEngine
+    implements TemplateEngine<Object> {
+
+    public static final PlaceholderTemplateEngine PLACEHOLDER_TEMPLATE_ENGINE = new PlaceholderTemplateEngine();
+    public static final PlaceholderTemplateEngine INSTANCE = PLACEHOLDER_TEMPLATE_ENGINE;
+
+    /** maximum number of cached {@link PlaceholderTemplate}s */
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+
+    /** compiled {@link PlaceholderTemplate}s by template */
+    private static final BoundedConcurrentCache<String, PlaceholderTemplate> TEMPLATE_CACHE =
+        new BoundedConcurrentCache<>(TEMPLATE_CACHE_SIZE);
+
+    @Override
+    public String applyArguments(final CharSequence template, final Object... arguments) {
+        return compile(template).applyArguments(arguments);
+    }
+
+    @Override
+    public void applyArgumentsTo(final Appendable target, final CharSequence template, final Object... arguments)
+        throws IOException {
+        compile(template).applyArgumentsTo(target, arguments);
+    }
+
+    /**
+     * Returns the {@link PlaceholderTemplate} compiled from the specified template, compiling and caching it if
+     * necessary.
+     *
+     * @param template
+     *        {@link CharSequence} containing the template
+     *
+     * @return the compiled {@link PlaceholderTemplate}
+     */
+    public PlaceholderTemplate compile(final CharSequence template) {
+        return TEMPLATE_CACHE.get(template.toString(), PlaceholderTemplate::compile);
+    }
+}
@@ -0,0 +1,545 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.IOException;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatFlagsException;
+import java.util.List;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * Printf style template, as defined by {@link Formatter}, parsed once into a sequence of literal text segments and
+ * conversion specifiers. Applying arguments to a PrintfTemplate appends the literal segments directly and formats
+ * each argument using its conversion specifier.
+ * </p>
+ * <p>
+ * The conversions {@code %s}, {@code %d} and {@code %x}, optionally with a width and the {@code -} or {@code 0} flag
+ * (and a precision for {@code %s}), are written directly into the target {@link StringBuilder} for the common argument
+ * types. All other conversions, flags and argument types are formatted by a {@link Formatter}, producing the same
+ * result as {@link String#format(Locale, String, Object...)}.
+ * </p>
+ * <p>
+ * A PrintfTemplate is immutable and may be shared by any number of threads. Each {@link Thread} reuses its own
+ * {@link Formatter}.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class PrintfTemplate {
+
+    /** flag characters of a conversion specifier */
+    private static final String FLAG_CHARACTERS = "-#+ 0,(<";
+
+    /** argument index of a conversion specifier using no argument */
+    private static final int NO_ARGUMENT = - 1;
+
+    /** conversion formatted by a {@link Formatter} */
+    private static final byte FORMATTER_CONVERSION = 0;
+
+    /** {@code %s} conversion without flags other than {@code -} */
+    private static final byte STRING_CONVERSION = 1;
+
+    /** {@code %d} conversion without flags other than {@code -} or {@code 0} */
+    private static final byte DECIMAL_CONVERSION = 2;
+
+    /** {@code %x} conversion without flags other than {@code -} or {@code 0} */
+    private static final byte HEXADECIMAL_CONVERSION = 3;
+
+    /** width or precision not specified */
+    private static final int UNSPECIFIED = - 1;
+
+    /** lower case hexadecimal digits */
+    private static final char[] HEXADECIMAL_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** zero digits by {@link Locale} */
+    private static final ConcurrentMap<Locale, Character> ZERO_DIGITS = new ConcurrentHashMap<>();
+
+    /** {@link Formatter} of the current {@link Thread} with its output buffer */
+    private static final ThreadLocal<Formatter> THREAD_FORMATTER =
+        ThreadLocal.withInitial(() -> new Formatter(new StringBuilder()));
+
+    /** template text */
+    private final String template;
+
+    /** literal text segments; the segment with index {@code i} precedes the conversion specifier with index i */
+    private final String[] literals;
+
+    /** conversion specifiers without argument index */
+    private final String[] specifiers;
+
+    /** indices of the arguments formatted by the conversion specifiers */
+    private final int[] argumentIndices;
+
+    /** conversions of the conversion specifiers */
+    private final byte[] conversions;
+
+    /** whether the conversion specifiers justify their output to the left */
+    private final boolean[] leftJustifications;
+
+    /** whether the conversion specifiers pad their output with zeros */
+    private final boolean[] zeroPaddings;
+
+    /** widths of the conversion specifiers */
+    private final int[] widths;
+
+    /** precisions of the conversion specifiers */
+    private final int[] precisions;
+
+    /**
+     * Parses the specified template.
+     *
+     * @param template
+     *        {@link CharSequence} containing the printf style template
+     *
+     * @return the parsed PrintfTemplate
+     *
+     * @throws UnknownFormatConversionException
+     *         if a conversion specifier of {@code template} is incomplete
+     *
+     * @throws MissingFormatArgumentException
+     *         if a conversion specifier of {@code template} refers to the previous argument but there is none
+     *
+     * @throws IllegalFormatFlagsException
+     *         if a {@code %%} or {@code %n} conversion specifier of {@code template} refers to the previous argument
+     */
+    public static PrintfTemplate compile(final CharSequence template)
+        throws UnknownFormatConversionException, MissingFormatArgumentException, IllegalFormatFlagsException {
+        return new PrintfTemplate(template.toString());
+    }
+
+    private PrintfTemplate(final String template) {
+        this.template = template;
+
+        final List<String> literals = new ArrayList<>();
+        final List<String> specifiers = new ArrayList<>();
+        final List<Integer> argumentIndices = new ArrayList<>();
+        final List<int[]> fastConversions = new ArrayList<>();
+
+        final StringBuilder literalBuilder = new StringBuilder();
+        final int length = template.length();
+        int nextOrdinaryArgumentIndex = 0;
+        int lastArgumentIndex = NO_ARGUMENT;
+        int characterIndex = 0;
+
+        while (characterIndex < length) {
+            final char character = template.charAt(characterIndex);
+
+            if (character != '%') {
+                literalBuilder.append(character);
+                characterIndex++;
+                continue;
+            }
+
+            final int specifierStartIndex = characterIndex;
+            characterIndex++;
+
+            // argument index
+            int explicitArgumentIndex = NO_ARGUMENT;
+            int digitsEndIndex = skipDigits(template, characterIndex);
+            if (digitsEndIndex > characterIndex && digitsEndIndex < length && template.charAt(digitsEndIndex) == '$') {
+                explicitArgumentIndex = Integer.parseInt(template.substring(characterIndex, digitsEndIndex)) - 1;
+                characterIndex = digitsEndIndex + 1;
+            }
+
+            // flags
+            final int flagsStartIndex = characterIndex;
+            while (characterIndex < length && FLAG_CHARACTERS.indexOf(template.charAt(characterIndex)) >= 0)
+                characterIndex++;
+            final String flags = template.substring(flagsStartIndex, characterIndex);
+
+            // width and precision
+            final int widthStartIndex = characterIndex;
+            characterIndex = skipDigits(template, characterIndex);
+            final int width = parseNumber(template, widthStartIndex, characterIndex);
+            int precision = UNSPECIFIED;
+            if (characterIndex < length && template.charAt(characterIndex) == '.') {
+                digitsEndIndex = skipDigits(template, characterIndex + 1);
+                if (digitsEndIndex == characterIndex + 1)
+                    throw new UnknownFormatConversionException(template.substring(specifierStartIndex));
+                precision = parseNumber(template, characterIndex + 1, digitsEndIndex);
+                characterIndex = digitsEndIndex;
+            }
+            final String widthAndPrecision = template.substring(widthStartIndex, characterIndex);
+
+            // conversion
+            if (characterIndex == length)
+                throw new UnknownFormatConversionException(template.substring(specifierStartIndex));
+
+            final char conversion = template.charAt(characterIndex++);
+            final int conversionStartIndex = characterIndex - 1;
+
+            if (conversion == 't' || conversion == 'T') {
+                if (characterIndex == length)
+                    throw new UnknownFormatConversionException(template.substring(specifierStartIndex));
+                characterIndex++;
+            }
+
+            final String conversionText = template.substring(conversionStartIndex, characterIndex);
+
+            if ((conversion == '%' || conversion == 'n') && flags.isEmpty() && widthAndPrecision.isEmpty()) {
+                literalBuilder.append(conversion == '%' ? "%" : System.lineSeparator());
+                continue;
+            }
+
+            final int argumentIndex;
+            if (conversion == '%' || conversion == 'n') {
+                // conversions without an argument cannot refer to the previous argument
+                if (flags.indexOf('<') >= 0)
+                    throw new IllegalFormatFlagsException(flags);
+                argumentIndex = NO_ARGUMENT;
+            }
+            else if (flags.indexOf('<') >= 0) {
+                if (lastArgumentIndex == NO_ARGUMENT)
+                    throw new MissingFormatArgumentException(template.substring(specifierStartIndex, characterIndex));
+                argumentIndex = lastArgumentIndex;
+            }
+            else if (explicitArgumentIndex != NO_ARGUMENT)
+                argumentIndex = explicitArgumentIndex;
+            else
+                argumentIndex = nextOrdinaryArgumentIndex++;
+
+            if (argumentIndex != NO_ARGUMENT)
+                lastArgumentIndex = argumentIndex;
+
+            literals.add(literalBuilder.toString());
+            literalBuilder.setLength(0);
+            final String fastFlags = flags.replace("<", "");
+            specifiers.add('%' + fastFlags + widthAndPrecision + conversionText);
+            argumentIndices.add(argumentIndex);
+            fastConversions.add(new int[] { fastConversion(conversion, fastFlags, width, precision), width, precision,
+                                            fastFlags.equals("-") ? 1 : 0, fastFlags.equals("0") ? 1 : 0 });
+        }
+
+        literals.add(literalBuilder.toString());
+
+        this.literals = literals.toArray(new String[0]);
+        this.specifiers = specifiers.toArray(new String[0]);
+        this.argumentIndices = argumentIndices.stream().mapToInt(Integer::intValue).toArray();
+
+        final int specifierCount = specifiers.size();
+        conversions = new byte[specifierCount];
+        leftJustifications = new boolean[specifierCount];
+        zeroPaddings = new boolean[specifierCount];
+        widths = new int[specifierCount];
+        precisions = new int[specifierCount];
+
+        for (int specifierIndex = 0; specifierIndex < specifierCount; specifierIndex++) {
+            final int[] fastConversion = fastConversions.get(specifierIndex);
+
+            conversions[specifierIndex] = (byte) fastConversion[0];
+            widths[specifierIndex] = fastConversion[1];
+            precisions[specifierIndex] = fastConversion[2];
+            leftJustifications[specifierIndex] = fastConversion[3] == 1;
+            zeroPaddings[specifierIndex] = fastConversion[4] == 1;
+        }
+    }
+
+    /**
+     * Returns the fast path conversion for the specified conversion specifier parts.
+     *
+     * @param conversion
+     *        character specifying the conversion
+     *
+     * @param flags
+     *        {@link String} specifying the flags
+     *
+     * @param width
+     *        integer specifying the width; {@link #UNSPECIFIED} if not specified
+     *
+     * @param precision
+     *        integer specifying the precision; {@link #UNSPECIFIED} if not specified
+     *
+     * @return byte specifying the fast path conversion; {@link #FORMATTER_CONVERSION} if the conversion specifier must
+     *         be formatted by a {@link Formatter}
+     */
+    private static int fastConversion(final char conversion, final String flags, final int width,
+                                      final int precision) {
+        final boolean paddingFlag = flags.equals("-") || flags.equals("0");
+        if (! flags.isEmpty() && ! (paddingFlag && width != UNSPECIFIED))
+            return FORMATTER_CONVERSION;
+
+        switch (conversion) {
+            case 's':
+                return flags.equals("0")
+                       ? FORMATTER_CONVERSION
+                       : STRING_CONVERSION;
+
+            case 'd':
+                return precision == UNSPECIFIED
+                       ? DECIMAL_CONVERSION
+                       : FORMATTER_CONVERSION;
+
+            case 'x':
+                return precision == UNSPECIFIED
+                       ? HEXADECIMAL_CONVERSION
+                       : FORMATTER_CONVERSION;
+
+            default:
+                return FORMATTER_CONVERSION;
+        }
+    }
+
+    private static int parseNumber(final String text, final int startIndex, final int endIndex) {
+        return startIndex == endIndex
+               ? UNSPECIFIED
+               : Integer.parseInt(text.substring(startIndex, endIndex));
+    }
+
+    private static int skipDigits(final String text, final int startIndex) {
+        int index = startIndex;
+        while (index < text.length() && text.charAt(index) >= '0' && text.charAt(index) <= '9')
+            index++;
+        return index;
+    }
+
+    /**
+     * Applies the specified arguments to this PrintfTemplate and appends the result to the specified
+     * {@link StringBuilder}.
+     *
+     * @param target
+     *        {@link StringBuilder} to which the result is appended
+     *
+     * @param locale
+     *        {@link Locale} to apply; {@code null} if no {@link Locale} should be applied
+     *
+     * @param arguments
+     *        array of {@link Object}s formatted by the conversion specifiers
+     *
+     * @throws java.util.IllegalFormatException
+     *         if an argument does not match its conversion specifier or is missing
+     */
+    public void applyArgumentsTo(final StringBuilder target, final Locale locale, final Object... arguments) {
+        for (int specifierIndex = 0; specifierIndex < specifiers.length; specifierIndex++) {
+            target.append(literals[specifierIndex]);
+            formatSpecifier(target, locale, specifierIndex, arguments);
+        }
+
+        target.append(literals[specifiers.length]);
+    }
+
+    /**
+     * Applies the specified arguments to this PrintfTemplate and appends the result to the specified
+     * {@link Appendable}. The literal segments are appended directly; each formatted argument is appended from a
+     * buffer reused for all conversion specifiers.
+     *
+     * @param target
+     *        {@link Appendable} to which the result is appended
+     *
+     * @param locale
+     *        {@link Locale} to apply; {@code null} if no {@link Locale} should be applied
+     *
+     * @param arguments
+     *        array of {@link Object}s formatted by the conversion specifiers
+     *
+     * @throws IOException
+     *         if an I/O error occurs appending to {@code target}
+     *
+     * @throws java.util.IllegalFormatException
+     *         if an argument does not match its conversion specifier or is missing
+     */
+    public void applyArgumentsTo(final Appendable target, final Locale locale, final Object... arguments)
+        throws IOException {
+        if (target instanceof StringBuilder) {
+            applyArgumentsTo((StringBuilder) target, locale, arguments);
+            return;
+        }
+
+        final StringBuilder specifierBuffer = new StringBuilder();
+
+        for (int specifierIndex = 0; specifierIndex < specifiers.length; specifierIndex++) {
+            target.append(literals[specifierIndex]);
+
+            specifierBuffer.setLength(0);
+            formatSpecifier(specifierBuffer, locale, specifierIndex, arguments);
+            target.append(specifierBuffer);
+        }
+
+        target.append(literals[specifiers.length]);
+    }
+
+    /**
+     * Formats the argument of the specified conversion specifier.
+     */
+    private void formatSpecifier(final StringBuilder target, final Locale locale, final int specifierIndex,
+                                 final Object[] arguments) {
+        final int argumentIndex = argumentIndices[specifierIndex];
+
+        if (argumentIndex == NO_ARGUMENT) {
+            formatWithFormatter(target, locale, specifiers[specifierIndex]);
+            return;
+        }
+
+        // like Formatter, a null arguments array formats each argument as null
+        if (arguments != null && argumentIndex >= arguments.length)
+            throw new MissingFormatArgumentException(specifiers[specifierIndex]);
+
+        final Object argument = arguments != null
+                                ? arguments[argumentIndex]
+                                : null;
+
+        if (! formatFast(target, locale, specifierIndex, argument))
+            formatWithFormatter(target, locale, specifiers[specifierIndex], argument);
+    }
+
+    /**
+     * Formats the specified argument using the fast path of the specified conversion specifier, if possible.
+     *
+     * @return {@code true} if the argument has been formatted;
+     *         {@code false} if it must be formatted by a {@link Formatter}
+     */
+    private boolean formatFast(final StringBuilder target, final Locale locale, final int specifierIndex,
+                               final Object argument) {
+        final int startLength = target.length();
+
+        switch (conversions[specifierIndex]) {
+            case STRING_CONVERSION:
+                if (argument instanceof Formattable)
+                    return false;
+
+                final CharSequence text = argument instanceof CharSequence
+                                          ? (CharSequence) argument
+                                          : String.valueOf(argument);
+                final int precision = precisions[specifierIndex];
+                final int textLength = precision != UNSPECIFIED && precision < text.length()
+                                       ? precision
+                                       : text.length();
+                target.append(text, 0, textLength);
+                break;
+
+            case DECIMAL_CONVERSION:
+                if (! (argument instanceof Integer || argument instanceof Long ||
+                       argument instanceof Short || argument instanceof Byte) ||
+                    zeroDigit(locale) != '0')
+                    return false;
+
+                target.append(((Number) argument).longValue());
+                break;
+
+            case HEXADECIMAL_CONVERSION:
+                if (argument instanceof Integer)
+                    appendHexadecimal(target, ((Integer) argument) & 0xFFFFFFFFL);
+                else if (argument instanceof Long)
+                    appendHexadecimal(target, (Long) argument);
+                else
+                    return false;
+                break;
+
+            default:
+                return false;
+        }
+
+        pad(target, startLength, specifierIndex);
+
+        return true;
+    }
+
+    /**
+     * Pads the output of the specified conversion specifier, starting at the specified index, to its width.
+     */
+    private void pad(final StringBuilder target, final int startIndex, final int specifierIndex) {
+        final int padLength = widths[specifierIndex] - (target.length() - startIndex);
+        if (padLength <= 0)
+            return;
+
+        if (leftJustifications[specifierIndex]) {
+            for (int padIndex = 0; padIndex < padLength; padIndex++)
+                target.append(' ');
+            return;
+        }
+
+        final boolean zeroPadding = zeroPaddings[specifierIndex];
+        final int insertIndex = zeroPadding && target.charAt(startIndex) == '-'
+                                ? startIndex + 1
+                                : startIndex;
+        final char padCharacter = zeroPadding
+                                  ? '0'
+                                  : ' ';
+
+        final int endIndex = target.length();
+        target.setLength(endIndex + padLength);
+
+        for (int characterIndex = endIndex - 1; characterIndex >= insertIndex; characterIndex--)
+            target.setCharAt(characterIndex + padLength, target.charAt(characterIndex));
+
+        for (int padIndex = insertIndex; padIndex < insertIndex + padLength; padIndex++)
+            target.setCharAt(padIndex, padCharacter);
+    }
+
+    private static void appendHexadecimal(final StringBuilder target, final long value) {
+        final int digitCount = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 3) / 4);
+        for (int digitIndex = digitCount - 1; digitIndex >= 0; digitIndex--)
+            target.append(HEXADECIMAL_DIGITS[(int) (value >>> (digitIndex * 4)) & 0xF]);
+    }
+
+    private static char zeroDigit(final Locale locale) {
+        if (locale == null)
+            return '0';
+
+        return ZERO_DIGITS.computeIfAbsent(locale, key -> DecimalFormatSymbols.getInstance(key).getZeroDigit());
+    }
+
+    private static void formatWithFormatter(final StringBuilder target, final Locale locale, final String specifier,
+                                            final Object... arguments) {
+        final Formatter formatter = THREAD_FORMATTER.get();
+        final StringBuilder formatterBuffer = (StringBuilder) formatter.out();
+
+        formatterBuffer.setLength(0);
+        formatter.format(locale, specifier, arguments);
+        target.append(formatterBuffer);
+        formatterBuffer.setLength(0);
+    }
+
+    /**
+     * Applies the specified arguments to this PrintfTemplate.
+     *
+     * @param locale
+     *        {@link Locale} to apply; {@code null} if no {@link Locale} should be applied
+     *
+     * @param arguments
+     *        array of {@link Object}s formatted by the conversion specifiers
+     *
+     * @return {@link String} specifying the formatted text
+     *
+     * @throws java.util.IllegalFormatException
+     *         if an argument does not match its conversion specifier or is missing
+     */
+    public String applyArguments(final Locale locale, final Object... arguments) {
+        final StringBuilder target = new StringBuilder(template.length() + 16 * specifiers.length);
+        applyArgumentsTo(target, locale, arguments);
+        return target.toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -21,7 +21,11 @@
 
 package org.jlib.text.templateengine;
 
+import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.Locale;
+
+import org.jlib.text.BoundedConcurrentCache;
 
 import static lombok.AccessLevel.PRIVATE;
 import lombok.NoArgsConstructor;
@@ -29,6 +33,7 @@ import lombok.NoArgsConstructor;
 /**
  * {@link TemplateEngine} using the {@link String#format(String, Object...)} printf style template format and processing
  * routine. Implemented as a singleton.
+ * Templates are compiled once into {@link PrintfTemplate}s, kept in a bounded cache shared by all threads.
  *
  * @see MessageFormat#format(String, Object...)
  *
@@ -41,8 +46,33 @@ public final class PrintfTemplateEngine
     public static final PrintfTemplateEngine PRINTF_TEMPLATE_ENGINE = new PrintfTemplateEngine();
     public static final PrintfTemplateEngine INSTANCE = new PrintfTemplateEngine();
 
+    /** maximum number of cached {@link PrintfTemplate}s */
+    private static final int TEMPLATE_CACHE_SIZE = 1024;
+
+    /** compiled {@link PrintfTemplate}s by template */
+    private static final BoundedConcurrentCache<String, PrintfTemplate> TEMPLATE_CACHE =
+        new BoundedConcurrentCache<>(TEMPLATE_CACHE_SIZE);
+
     @Override
     public String applyArguments(final CharSequence template, final Object... arguments) {
-        return String.format(template.toString(), arguments);
+        return compile(template).applyArguments(Locale.getDefault(Locale.Category.FORMAT), arguments);
+    }
+
+    @Override
+    public void applyArgumentsTo(final Appendable target, final CharSequence template, final Object... arguments)
+        throws IOException {
+        compile(template).applyArgumentsTo(target, Locale.getDefault(Locale.Category.FORMAT), arguments);
+    }
+
+    /**
+     * Returns the {@link PrintfTemplate} compiled from the specified template, compiling and caching it if necessary.
+     *
+     * @param template
+     *        {@link CharSequence} containing the printf style template
+     *
+     * @return the compiled {@link PrintfTemplate}
+     */
+    public PrintfTemplate compile(final CharSequence template) {
+        return TEMPLATE_CACHE.get(template.toString(), PrintfTemplate::compile);
     }
 }
@@ -21,8 +21,14 @@
 
 package org.jlib.text.templateengine;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
+import org.jlib.text.Utf8ByteBufferAppendable;
+
 /**
  * Routine applying arguments to a textual template, usually substituting placeholders.
  * Each {@link TemplateEngine} implementation defines the individual format of the template and the algorithm applying
@@ -55,4 +61,72 @@ public interface TemplateEngine<Argument> {
     default String applyArguments(final CharSequence template, final List<Argument> arguments) {
         return applyArguments(template, (Argument[]) arguments.toArray());
     }
+
+    /**
+     * Applies the specified {@link Argument} to the specified template containing placeholders and appends the result
+     * to the specified {@link Appendable}. Implementations should override this method to write directly to
+     * {@code target}; the default implementation appends the result of
+     * {@link #applyArguments(CharSequence, Object[])}.
+     *
+     * @param target
+     *        {@link Appendable} to which the result is appended
+     *
+     * @param template
+     *        {@link CharSequence} template containing the placeholders
+     *
+     * @param arguments
+     *        array of {@link Object}s applied on {@code template};
+     *        the arguments are passed to the replacing routine in the correct
+     *        order without any transformation
+     *
+     * @throws IOException
+     *         if an I/O error occurs appending to {@code target}
+     */
+    @SuppressWarnings("unchecked")
+    default void applyArgumentsTo(final Appendable target, final CharSequence template, final Argument... arguments)
+        throws IOException {
+        target.append(applyArguments(template, arguments));
+    }
+
+    /**
+     * Applies the specified {@link Argument} to the specified template containing placeholders and encodes the result
+     * as UTF-8 into the specified {@link ByteBuffer}, which may be a direct buffer. The result is written using
+     * {@link #applyArgumentsTo(Appendable, CharSequence, Object[])} and a {@link Utf8ByteBufferAppendable}, so no
+     * intermediate {@link String} or byte array is created by implementations writing directly to the target.
+     *
+     * @param target
+     *        {@link ByteBuffer} into which the result is encoded
+     *
+     * @param template
+     *        {@link CharSequence} template containing the placeholders
+     *
+     * @param arguments
+     *        array of {@link Object}s applied on {@code template};
+     *        the arguments are passed to the replacing routine in the correct
+     *        order without any transformation
+     *
+     * @return {@code true} if the result has been completely encoded;
+     *         {@code false} if the remaining space of {@code target} is insufficient, in which case its position is
+     *         left unchanged
+     */
+    @SuppressWarnings("unchecked")
+    default boolean applyArgumentsTo(final ByteBuffer target, final CharSequence template,
+                                     final Argument... arguments) {
+        final int startPosition = target.position();
+
+        try {
+            final Utf8ByteBufferAppendable appendable = new Utf8ByteBufferAppendable(target);
+            applyArgumentsTo(appendable, template, arguments);
+            appendable.finish();
+            return true;
+        }
+        catch (final BufferOverflowException exception) {
+            target.position(startPosition);
+            return false;
+        }
+        catch (final IOException exception) {
+            // not thrown by Utf8ByteBufferAppendable
+            throw new UncheckedIOException(exception);
+        }
+    }
 }
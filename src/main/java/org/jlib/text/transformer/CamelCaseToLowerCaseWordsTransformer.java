@@ -21,32 +21,20 @@
 
 package org.jlib.text.transformer;
 
-import static java.lang.Character.isUpperCase;
-import static java.lang.Character.toLowerCase;
-import static org.jlib.text.Text.asIterable;
-import static org.jlib.text.Text.clear;
-
+/**
+ * {@link StringTransformer} converting a camel case String into lower case words separated by spaces, for instance,
+ * {@code parseHttpResponse} into {@code parse http response}. Every upper case letter starts a word. The String is
+ * converted in place.
+ *
+ * @author Igor Akkerman
+ */
 public class CamelCaseToLowerCaseWordsTransformer
-    implements StringTransformer {
-
-    @Override
-    public void transform(final StringBuilder stringBuilder) {
-
-        final int initialLength = stringBuilder.length();
-
-        if (initialLength == 0)
-            return;
-
-        final String initialString = stringBuilder.toString();
-
-        clear(stringBuilder);
-
-        stringBuilder.append(toLowerCase(initialString.charAt(0)));
+    extends CamelCaseToSeparatedWordsTransformer {
 
-        for (final char exceptionNameCharacter : asIterable(initialString, 1))
-            if (isUpperCase(exceptionNameCharacter))
-                stringBuilder.append(' ').append(toLowerCase(exceptionNameCharacter));
-            else
-                stringBuilder.append(exceptionNameCharacter);
+    /**
+     * Creates a new CamelCaseToLowerCaseWordsTransformer.
+     */
+    public CamelCaseToLowerCaseWordsTransformer() {
+        super(' ', true);
     }
 }
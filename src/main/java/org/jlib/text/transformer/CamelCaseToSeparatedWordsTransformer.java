@@ -0,0 +1,178 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import org.jlib.text.AsciiCharacterClass;
+
+import static org.jlib.text.AsciiScanning.indexOf;
+import static org.jlib.text.transformer.CaseConversion.DIGIT;
+import static org.jlib.text.transformer.CaseConversion.LOWER_CASE_LETTER;
+import static org.jlib.text.transformer.CaseConversion.OTHER;
+import static org.jlib.text.transformer.CaseConversion.UPPER_CASE_LETTER;
+import static org.jlib.text.transformer.CaseConversion.characterClass;
+import static org.jlib.text.transformer.CaseConversion.codePointAt;
+import static org.jlib.text.transformer.CaseConversion.codePointBefore;
+import static org.jlib.text.transformer.CaseConversion.setCodePointAt;
+import static org.jlib.text.transformer.CaseConversion.toLowerCase;
+
+/**
+ * <p>
+ * {@link StringTransformer} converting a camel case String into lower case words separated by the specified
+ * separator, for instance, {@code parseHttpResponse} into {@code parse_http_response}.
+ * </p>
+ * <p>
+ * A word starts at an upper case letter following a lower case letter or a digit, or at the last upper case letter
+ * of a sequence followed by a lower case letter, so acronyms form single words: {@code parseHTTPResponse} is also
+ * converted into {@code parse_http_response}.
+ * </p>
+ * <p>
+ * The String is converted in place: the inserted separators are counted first, then the converted characters are
+ * written backwards into the enlarged {@link StringBuilder}, without copying the String. The leading lower case
+ * ASCII characters, remaining unchanged, are skipped by {@link org.jlib.text.AsciiScanning}.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public class CamelCaseToSeparatedWordsTransformer
+    implements StringTransformer {
+
+    /** characters possibly converted or preceded by a separator */
+    private static final AsciiCharacterClass CONVERTED_CHARACTERS = AsciiCharacterClass.UPPER_CASE_LETTERS.orNonAscii();
+
+    /** separator of the words */
+    private final char separator;
+
+    /** whether every upper case letter starts a word */
+    private final boolean everyUpperCaseLetterStartsWord;
+
+    /**
+     * Creates a new CamelCaseToSeparatedWordsTransformer.
+     *
+     * @param separator
+     *        character separating the words
+     */
+    public CamelCaseToSeparatedWordsTransformer(final char separator) {
+        this(separator, false);
+    }
+
+    /**
+     * Creates a new CamelCaseToSeparatedWordsTransformer.
+     *
+     * @param separator
+     *        character separating the words
+     *
+     * @param everyUpperCaseLetterStartsWord
+     *        {@code true} if every upper case letter starts a word, also within acronyms;
+     *        {@code false} if an acronym forms a single word
+     */
+    protected CamelCaseToSeparatedWordsTransformer(final char separator, final boolean everyUpperCaseLetterStartsWord) {
+        this.separator = separator;
+        this.everyUpperCaseLetterStartsWord = everyUpperCaseLetterStartsWord;
+    }
+
+    @Override
+    public void transform(final StringBuilder stringBuilder) {
+        final int originalLength = stringBuilder.length();
+        final int firstConvertedIndex = indexOf(stringBuilder, 0, originalLength, CONVERTED_CHARACTERS);
+
+        if (firstConvertedIndex == - 1)
+            return;
+
+        final int separatorCount = countSeparators(stringBuilder, firstConvertedIndex);
+
+        if (separatorCount == 0) {
+            lowerCase(stringBuilder, firstConvertedIndex);
+            return;
+        }
+
+        stringBuilder.setLength(originalLength + separatorCount);
+
+        int readEndIndex = originalLength;
+        int writeEndIndex = originalLength + separatorCount;
+        byte nextClass = OTHER;
+
+        while (readEndIndex > firstConvertedIndex) {
+            final int codePoint = codePointBefore(stringBuilder, readEndIndex);
+            final int readStartIndex = readEndIndex - Character.charCount(codePoint);
+            final byte currentClass = characterClass(codePoint);
+
+            writeEndIndex -= Character.charCount(codePoint);
+            setCodePointAt(stringBuilder, writeEndIndex, toLowerCase(codePoint));
+
+            if (readStartIndex > 0 &&
+                startsWord(characterClass(codePointBefore(stringBuilder, readStartIndex)), currentClass, nextClass))
+                stringBuilder.setCharAt(--writeEndIndex, separator);
+
+            nextClass = currentClass;
+            readEndIndex = readStartIndex;
+        }
+    }
+
+    private int countSeparators(final StringBuilder stringBuilder, final int startIndex) {
+        final int length = stringBuilder.length();
+
+        int separatorCount = 0;
+        int index = startIndex;
+        byte previousClass = index > 0
+                             ? characterClass(codePointBefore(stringBuilder, index))
+                             : OTHER;
+
+        while (index < length) {
+            final int codePoint = codePointAt(stringBuilder, index);
+            final byte currentClass = characterClass(codePoint);
+            final boolean firstCodePoint = index == 0;
+            index += Character.charCount(codePoint);
+
+            final byte nextClass = index < length
+                                   ? characterClass(codePointAt(stringBuilder, index))
+                                   : OTHER;
+
+            if (! firstCodePoint && startsWord(previousClass, currentClass, nextClass))
+                separatorCount++;
+
+            previousClass = currentClass;
+        }
+
+        return separatorCount;
+    }
+
+    private boolean startsWord(final byte previousClass, final byte currentClass, final byte nextClass) {
+        if (currentClass != UPPER_CASE_LETTER)
+            return false;
+
+        if (everyUpperCaseLetterStartsWord)
+            return true;
+
+        return previousClass == LOWER_CASE_LETTER || previousClass == DIGIT ||
+               previousClass == UPPER_CASE_LETTER && nextClass == LOWER_CASE_LETTER;
+    }
+
+    private static void lowerCase(final StringBuilder stringBuilder, final int startIndex) {
+        int index = startIndex;
+        while (index < stringBuilder.length()) {
+            final int codePoint = codePointAt(stringBuilder, index);
+            setCodePointAt(stringBuilder, index, toLowerCase(codePoint));
+            index += Character.charCount(codePoint);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Character classification and case mapping of code points for the case converting {@link StringTransformer}s. ASCII
+ * characters are classified and mapped by lookup tables; all other code points by {@link Character}. A case mapping
+ * changing the number of chars of a code point is ignored, so the case conversions never change the length of a
+ * String.
+ *
+ * @author Igor Akkerman
+ */
+@UtilityClass
+class CaseConversion {
+
+    /** class of a character neither being a letter nor a digit */
+    static final byte OTHER = 0;
+
+    /** class of a lower case letter or a letter without case */
+    static final byte LOWER_CASE_LETTER = 1;
+
+    /** class of an upper case or title case letter */
+    static final byte UPPER_CASE_LETTER = 2;
+
+    /** class of a digit */
+    static final byte DIGIT = 3;
+
+    /** number of ASCII characters */
+    private static final int ASCII_CHARACTER_COUNT = 128;
+
+    /** classes of the ASCII characters */
+    private static final byte[] ASCII_CLASSES = new byte[ASCII_CHARACTER_COUNT];
+
+    /** lower case mappings of the ASCII characters */
+    private static final char[] ASCII_LOWER_CASES = new char[ASCII_CHARACTER_COUNT];
+
+    /** upper case mappings of the ASCII characters */
+    private static final char[] ASCII_UPPER_CASES = new char[ASCII_CHARACTER_COUNT];
+
+    static {
+        for (char character = 0; character < ASCII_CHARACTER_COUNT; character++) {
+            ASCII_LOWER_CASES[character] = character;
+            ASCII_UPPER_CASES[character] = character;
+
+            if (character >= 'a' && character <= 'z') {
+                ASCII_CLASSES[character] = LOWER_CASE_LETTER;
+                ASCII_UPPER_CASES[character] = (char) (character - 'a' + 'A');
+            }
+            else if (character >= 'A' && character <= 'Z') {
+                ASCII_CLASSES[character] = UPPER_CASE_LETTER;
+                ASCII_LOWER_CASES[character] = (char) (character - 'A' + 'a');
+            }
+            else if (character >= '0' && character <= '9')
+                ASCII_CLASSES[character] = DIGIT;
+        }
+    }
+
+    /**
+     * Returns the class of the specified code point.
+     *
+     * @param codePoint
+     *        integer specifying the code point
+     *
+     * @return byte specifying the class
+     */
+    static byte characterClass(final int codePoint) {
+        if (codePoint < ASCII_CHARACTER_COUNT)
+            return ASCII_CLASSES[codePoint];
+
+        if (Character.isUpperCase(codePoint) || Character.isTitleCase(codePoint))
+            return UPPER_CASE_LETTER;
+
+        if (Character.isLetter(codePoint))
+            return LOWER_CASE_LETTER;
+
+        if (Character.isDigit(codePoint))
+            return DIGIT;
+
+        return OTHER;
+    }
+
+    /**
+     * Returns the lower case mapping of the specified code point.
+     *
+     * @param codePoint
+     *        integer specifying the code point
+     *
+     * @return integer specifying the mapped code point
+     */
+    static int toLowerCase(final int codePoint) {
+        return codePoint < ASCII_CHARACTER_COUNT
+               ? ASCII_LOWER_CASES[codePoint]
+               : sameCharCount(codePoint, Character.toLowerCase(codePoint));
+    }
+
+    /**
+     * Returns the upper case mapping of the specified code point.
+     *
+     * @param codePoint
+     *        integer specifying the code point
+     *
+     * @return integer specifying the mapped code point
+     */
+    static int toUpperCase(final int codePoint) {
+        return codePoint < ASCII_CHARACTER_COUNT
+               ? ASCII_UPPER_CASES[codePoint]
+               : sameCharCount(codePoint, Character.toUpperCase(codePoint));
+    }
+
+    /**
+     * Returns the title case mapping of the specified code point.
+     *
+     * @param codePoint
+     *        integer specifying the code point
+     *
+     * @return integer specifying the mapped code point
+     */
+    static int toTitleCase(final int codePoint) {
+        return codePoint < ASCII_CHARACTER_COUNT
+               ? ASCII_UPPER_CASES[codePoint]
+               : sameCharCount(codePoint, Character.toTitleCase(codePoint));
+    }
+
+    private static int sameCharCount(final int codePoint, final int mappedCodePoint) {
+        return Character.charCount(mappedCodePoint) == Character.charCount(codePoint)
+               ? mappedCodePoint
+               : codePoint;
+    }
+
+    /**
+     * Returns the code point at the specified index of the specified {@link StringBuilder}, reading a single char if
+     * it is ASCII.
+     *
+     * @param stringBuilder
+     *        {@link StringBuilder} containing the code point
+     *
+     * @param index
+     *        integer specifying the index of the code point
+     *
+     * @return integer specifying the code point
+     */
+    static int codePointAt(final StringBuilder stringBuilder, final int index) {
+        final char character = stringBuilder.charAt(index);
+
+        return character < Character.MIN_SURROGATE
+               ? character
+               : Character.codePointAt(stringBuilder, index);
+    }
+
+    /**
+     * Returns the code point preceding the specified index of the specified {@link StringBuilder}, reading a single
+     * char if it is ASCII.
+     *
+     * @param stringBuilder
+     *        {@link StringBuilder} containing the code point
+     *
+     * @param index
+     *        integer specifying the index following the code point
+     *
+     * @return integer specifying the code point
+     */
+    static int codePointBefore(final StringBuilder stringBuilder, final int index) {
+        final char character = stringBuilder.charAt(index - 1);
+
+        return character < Character.MIN_SURROGATE
+               ? character
+               : Character.codePointBefore(stringBuilder, index);
+    }
+
+    /**
+     * Writes the specified code point at the specified index of the specified {@link StringBuilder}, replacing as many
+     * chars as the code point requires.
+     *
+     * @param stringBuilder
+     *        target {@link StringBuilder}
+     *
+     * @param index
+     *        integer specifying the index
+     *
+     * @param codePoint
+     *        integer specifying the code point
+     */
+    static void setCodePointAt(final StringBuilder stringBuilder, final int index, final int codePoint) {
+        if (Character.isBmpCodePoint(codePoint)) {
+            stringBuilder.setCharAt(index, (char) codePoint);
+            return;
+        }
+
+        stringBuilder.setCharAt(index, Character.highSurrogate(codePoint));
+        stringBuilder.setCharAt(index + 1, Character.lowSurrogate(codePoint));
+    }
+}
@@ -45,6 +45,15 @@ public class CenteringStringTransformer
         super(finalStringLength, paddingCharacter);
     }
 
+    @Override
+    protected int getLeadingPadLength(final int padLength) {
+        return padLength / 2;
+    }
+
+    /**
+     * @deprecated padding as specified by {@link #getLeadingPadLength(int)}, used unless this method is overridden
+     */
+    @Deprecated
     @Override
     public void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder,
                     final boolean additionalPaddingCharacterRequired) {
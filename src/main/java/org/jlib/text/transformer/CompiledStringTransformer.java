@@ -0,0 +1,146 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.addAll;
+
+/**
+ * <p>
+ * Immutable {@link StringTransformer} applying a sequence of composing {@link StringTransformer}s compiled once by
+ * {@link CompositeStringTransformer#compile()}.
+ * </p>
+ * <p>
+ * Adjacent {@link PaddingStringTransformer}s are fused into a single operation. Before the transformation, the
+ * capacity of the {@link StringBuilder} is ensured once for the length predicted by the composing
+ * {@link StringTransformer}s, as far as they predict it.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class CompiledStringTransformer
+    implements StringTransformer {
+
+    /** composing {@link StringTransformer}s in the order of application */
+    private final StringTransformer[] stringTransformers;
+
+    /**
+     * Creates a new CompiledStringTransformer.
+     *
+     * @param stringTransformers
+     *        {@link List} of the composing {@link StringTransformer}s in the order of application
+     */
+    CompiledStringTransformer(final List<StringTransformer> stringTransformers) {
+        final List<StringTransformer> stages = new ArrayList<>(stringTransformers.size());
+        final List<PaddingStringTransformer> adjacentPaddingStringTransformers = new ArrayList<>();
+
+        for (final StringTransformer stringTransformer : stringTransformers) {
+            if (stringTransformer instanceof PaddingStringTransformer &&
+                ! ((PaddingStringTransformer) stringTransformer).usesPadHook()) {
+                adjacentPaddingStringTransformers.add((PaddingStringTransformer) stringTransformer);
+                continue;
+            }
+
+            addPaddingStage(stages, adjacentPaddingStringTransformers);
+
+            if (stringTransformer instanceof CompiledStringTransformer)
+                addAll(stages, ((CompiledStringTransformer) stringTransformer).stringTransformers);
+            else
+                stages.add(stringTransformer);
+        }
+
+        addPaddingStage(stages, adjacentPaddingStringTransformers);
+
+        this.stringTransformers = stages.toArray(new StringTransformer[0]);
+    }
+
+    /**
+     * Adds the specified adjacent {@link PaddingStringTransformer}s, if any, as one stage and clears them.
+     *
+     * @param stages
+     *        {@link List} of stages
+     *
+     * @param adjacentPaddingStringTransformers
+     *        {@link List} of adjacent {@link PaddingStringTransformer}s
+     */
+    private static void addPaddingStage(final List<StringTransformer> stages,
+                                        final List<PaddingStringTransformer> adjacentPaddingStringTransformers) {
+        if (adjacentPaddingStringTransformers.isEmpty())
+            return;
+
+        stages.add(adjacentPaddingStringTransformers.size() == 1
+                   ? adjacentPaddingStringTransformers.get(0)
+                   : new FusedPaddingStringTransformer(adjacentPaddingStringTransformers));
+
+        adjacentPaddingStringTransformers.clear();
+    }
+
+    @Override
+    public void transform(final StringBuilder stringBuilder) {
+        stringBuilder.ensureCapacity(predictCapacity(stringBuilder.length()));
+
+        for (final StringTransformer stringTransformer : stringTransformers)
+            stringTransformer.transform(stringBuilder);
+    }
+
+    @Override
+    public int predictLength(final int originalLength) {
+        int predictedLength = originalLength;
+
+        for (final StringTransformer stringTransformer : stringTransformers) {
+            predictedLength = stringTransformer.predictLength(predictedLength);
+
+            if (predictedLength == UNKNOWN_LENGTH)
+                return UNKNOWN_LENGTH;
+        }
+
+        return predictedLength;
+    }
+
+    /**
+     * Predicts the capacity required for the transformation as far as the composing {@link StringTransformer}s predict
+     * their lengths.
+     *
+     * @param originalLength
+     *        integer specifying the length of the String to transform
+     *
+     * @return integer specifying the predicted capacity
+     */
+    private int predictCapacity(final int originalLength) {
+        int predictedCapacity = originalLength;
+        int predictedLength = originalLength;
+
+        for (final StringTransformer stringTransformer : stringTransformers) {
+            predictedLength = stringTransformer.predictLength(predictedLength);
+
+            if (predictedLength == UNKNOWN_LENGTH)
+                break;
+
+            predictedCapacity = Math.max(predictedCapacity, predictedLength);
+        }
+
+        return predictedCapacity;
+    }
+}
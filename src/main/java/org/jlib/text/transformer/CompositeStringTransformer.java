@@ -115,8 +115,36 @@ public class CompositeStringTransformer
         stringTransformers.addAll(additionalStringTransformers);
     }
 
+    /**
+     * Compiles the {@link StringTransformer StringTransformers} currently
+     * composing this CompositeStringTransformer into an immutable
+     * {@link CompiledStringTransformer}. Later changes of this
+     * CompositeStringTransformer do not affect the returned
+     * {@link CompiledStringTransformer}.
+     *
+     * @return the newly created {@link CompiledStringTransformer}
+     */
+    public CompiledStringTransformer compile() {
+        return new CompiledStringTransformer(stringTransformers);
+    }
+
     @Override
     public void transform(final StringBuilder stringBuilder) {
-        stringTransformers.forEach(stringTransformer -> stringTransformer.transform(stringBuilder));
+        for (final StringTransformer stringTransformer : stringTransformers)
+            stringTransformer.transform(stringBuilder);
+    }
+
+    @Override
+    public int predictLength(final int originalLength) {
+        int predictedLength = originalLength;
+
+        for (final StringTransformer stringTransformer : stringTransformers) {
+            predictedLength = stringTransformer.predictLength(predictedLength);
+
+            if (predictedLength == UNKNOWN_LENGTH)
+                return UNKNOWN_LENGTH;
+        }
+
+        return predictedLength;
     }
 }
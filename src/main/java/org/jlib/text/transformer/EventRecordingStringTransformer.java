@@ -0,0 +1,91 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import org.jlib.text.metrics.TextEvent;
+import org.jlib.text.metrics.TextEventRecorder;
+
+/**
+ * {@link StringTransformer} decorating another {@link StringTransformer} and recording each call of
+ * {@link #transform(StringBuilder)} as {@link TextEvent}, by default using the JDK Flight Recorder if available.
+ *
+ * @author Igor Akkerman
+ */
+public final class EventRecordingStringTransformer
+    implements StringTransformer {
+
+    /** decorated {@link StringTransformer} */
+    private final StringTransformer delegateTransformer;
+
+    /** name of this EventRecordingStringTransformer recorded with the events */
+    private final String name;
+
+    /** {@link TextEventRecorder} recording the events */
+    private final TextEventRecorder eventRecorder;
+
+    /**
+     * Creates a new EventRecordingStringTransformer using {@link TextEventRecorder#flightRecorder()}.
+     *
+     * @param delegateTransformer
+     *        decorated {@link StringTransformer}
+     *
+     * @param name
+     *        {@link String} specifying the name recorded with the events
+     */
+    public EventRecordingStringTransformer(final StringTransformer delegateTransformer, final String name) {
+        this(delegateTransformer, name, TextEventRecorder.flightRecorder());
+    }
+
+    /**
+     * Creates a new EventRecordingStringTransformer.
+     *
+     * @param delegateTransformer
+     *        decorated {@link StringTransformer}
+     *
+     * @param name
+     *        {@link String} specifying the name recorded with the events
+     *
+     * @param eventRecorder
+     *        {@link TextEventRecorder} recording the events
+     */
+    public EventRecordingStringTransformer(final StringTransformer delegateTransformer, final String name,
+                                           final TextEventRecorder eventRecorder) {
+        this.delegateTransformer = delegateTransformer;
+        this.name = name;
+        this.eventRecorder = eventRecorder;
+    }
+
+    @Override
+    public void transform(final StringBuilder stringBuilder) {
+        final TextEvent event = eventRecorder.beginStringTransformation(name, stringBuilder.length());
+
+        delegateTransformer.transform(stringBuilder);
+
+        event.commit(stringBuilder.length());
+    }
+
+    @Override
+    public int predictLength(final int originalLength) {
+        return delegateTransformer.predictLength(originalLength);
+    }
+}
@@ -24,11 +24,16 @@ package org.jlib.text.transformer;
 import java.util.Formatter;
 import java.util.Locale;
 
+import org.jlib.text.templateengine.PrintfTemplate;
+
 import static java.lang.System.arraycopy;
 
 /**
  * {@link StringTransformer} using the specified format (as defined by
  * {@link Formatter}) to transform the String.
+ * The format is parsed once when the FormattingStringTransformer is created.
+ * A FormattingStringTransformer may be shared by multiple threads; each
+ * {@link Thread} uses its own copy of the formatted values.
  *
  * @author Igor Akkerman
  */
@@ -38,11 +43,11 @@ public class FormattingStringTransformer
     /** {@link Locale} applied when formatting the String */
     private final Locale locale;
 
-    /** format {@link String} to use */
-    private final String format;
+    /** parsed format to use */
+    private final PrintfTemplate format;
 
-    /** array of {@link Object Objects} specifying the values to format */
-    private final Object[] values;
+    /** array of {@link Object Objects} specifying the values to format of the current {@link Thread} */
+    private final ThreadLocal<Object[]> threadValues;
 
     /** integer specifying the index in the formatted values of the original String */
     private final int originalStringValueIndex;
@@ -102,6 +107,8 @@ public class FormattingStringTransformer
      * @throws IndexOutOfBoundsException
      *         if {@code originalStringValueIndex < 0 ||
      *         originalStringValueIndex > values.length}
+     * @throws java.util.IllegalFormatException
+     *         if {@code format} contains an incomplete conversion specifier
      */
     public FormattingStringTransformer(final Locale locale, final String format, final int originalStringValueIndex, final Object... values) {
 
@@ -109,19 +116,27 @@ public class FormattingStringTransformer
             throw new IndexOutOfBoundsException(Integer.toString(originalStringValueIndex));
 
         this.locale = locale;
-        this.format = format;
+        this.format = PrintfTemplate.compile(format);
         this.originalStringValueIndex = originalStringValueIndex;
 
-        this.values = new Object[values.length + 1];
-        arraycopy(values, 0, this.values, 0, originalStringValueIndex);
-        arraycopy(values, originalStringValueIndex, this.values, originalStringValueIndex + 1,
+        final Object[] allValues = new Object[values.length + 1];
+        arraycopy(values, 0, allValues, 0, originalStringValueIndex);
+        arraycopy(values, originalStringValueIndex, allValues, originalStringValueIndex + 1,
                   values.length - originalStringValueIndex);
+
+        threadValues = ThreadLocal.withInitial(allValues::clone);
     }
 
     @Override
     public void transform(final StringBuilder stringBuilder) {
+        final Object[] values = threadValues.get();
         values[originalStringValueIndex] = stringBuilder.toString();
         stringBuilder.setLength(0);
-        new Formatter(stringBuilder).format(locale, format, values);
+        try {
+            format.applyArgumentsTo(stringBuilder, locale, values);
+        }
+        finally {
+            values[originalStringValueIndex] = null;
+        }
     }
 }
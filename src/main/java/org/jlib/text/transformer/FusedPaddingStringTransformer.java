@@ -0,0 +1,134 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import java.util.List;
+
+/**
+ * <p>
+ * {@link StringTransformer} applying a sequence of {@link PaddingStringTransformer}s in a single operation.
+ * </p>
+ * <p>
+ * The pad lengths of all {@link PaddingStringTransformer}s are computed first. The original content is then shifted
+ * at most once by all leading padding characters, and the trailing padding characters are appended in bulk.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+final class FusedPaddingStringTransformer
+    implements StringTransformer {
+
+    /** {@link PaddingStringTransformer}s in the order of application */
+    private final PaddingStringTransformer[] paddingStringTransformers;
+
+    /** shared array of the padding characters of the last {@link PaddingStringTransformer} */
+    private final char[] outermostPadCharacters;
+
+    /** maximum length of the String returned by any of the {@link PaddingStringTransformer}s */
+    private final int maximumFinalStringLength;
+
+    /**
+     * Creates a new FusedPaddingStringTransformer.
+     *
+     * @param paddingStringTransformers
+     *        {@link List} of at least one {@link PaddingStringTransformer} in the order of application
+     */
+    FusedPaddingStringTransformer(final List<PaddingStringTransformer> paddingStringTransformers) {
+        this.paddingStringTransformers = paddingStringTransformers.toArray(new PaddingStringTransformer[0]);
+
+        int maximumFinalStringLength = 0;
+        for (final PaddingStringTransformer paddingStringTransformer : this.paddingStringTransformers)
+            maximumFinalStringLength = Math.max(maximumFinalStringLength,
+                                                paddingStringTransformer.getFinalStringLength());
+        this.maximumFinalStringLength = maximumFinalStringLength;
+
+        final PaddingStringTransformer outermostPaddingStringTransformer =
+            this.paddingStringTransformers[this.paddingStringTransformers.length - 1];
+
+        outermostPadCharacters = outermostPaddingStringTransformer.getPadCharacters();
+    }
+
+    @Override
+    public void transform(final StringBuilder stringBuilder) {
+        final int originalLength = stringBuilder.length();
+
+        if (originalLength >= maximumFinalStringLength)
+            return;
+
+        stringBuilder.ensureCapacity(maximumFinalStringLength);
+
+        final int stageCount = paddingStringTransformers.length;
+        final char outermostPaddingCharacter = paddingStringTransformers[stageCount - 1].getPaddingCharacter();
+
+        int length = originalLength;
+        int totalLeadingPadLength = 0;
+
+        for (final PaddingStringTransformer paddingStringTransformer : paddingStringTransformers) {
+            final int padLength = paddingStringTransformer.getFinalStringLength() - length;
+
+            if (padLength <= 0)
+                continue;
+
+            final int leadingPadLength = paddingStringTransformer.getLeadingPadLength(padLength);
+            final int trailingPadLength = padLength - leadingPadLength;
+
+            totalLeadingPadLength += leadingPadLength;
+
+            PaddingStringTransformer.appendPad(stringBuilder, paddingStringTransformer.getPadCharacters(),
+                                               trailingPadLength);
+
+            length += padLength;
+        }
+
+        if (totalLeadingPadLength == 0)
+            return;
+
+        PaddingStringTransformer.insertPad(stringBuilder, 0, outermostPadCharacters, totalLeadingPadLength);
+
+        // overwrite the leading pad regions of inner stages using a different padding character
+        length = originalLength;
+        int leadingPadEndIndex = totalLeadingPadLength;
+
+        for (final PaddingStringTransformer paddingStringTransformer : paddingStringTransformers) {
+            final int padLength = paddingStringTransformer.getFinalStringLength() - length;
+
+            if (padLength <= 0)
+                continue;
+
+            final int leadingPadLength = paddingStringTransformer.getLeadingPadLength(padLength);
+            final char paddingCharacter = paddingStringTransformer.getPaddingCharacter();
+
+            if (paddingCharacter != outermostPaddingCharacter)
+                for (int padIndex = leadingPadEndIndex - leadingPadLength; padIndex < leadingPadEndIndex; padIndex++)
+                    stringBuilder.setCharAt(padIndex, paddingCharacter);
+
+            leadingPadEndIndex -= leadingPadLength;
+            length += padLength;
+        }
+    }
+
+    @Override
+    public int predictLength(final int originalLength) {
+        return Math.max(originalLength, maximumFinalStringLength);
+    }
+}
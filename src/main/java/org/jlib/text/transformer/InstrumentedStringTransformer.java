@@ -0,0 +1,87 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import org.jlib.text.metrics.TextMetrics;
+
+/**
+ * {@link StringTransformer} decorating another {@link StringTransformer} and recording the calls of
+ * {@link #transform(StringBuilder)} in a {@link TextMetrics}: latency, length of the original and the transformed
+ * String and, if enabled, the allocated bytes. If the {@link TextMetrics} is disabled, the delegate is called
+ * directly.
+ *
+ * @author Igor Akkerman
+ */
+public final class InstrumentedStringTransformer
+    implements StringTransformer {
+
+    /** decorated {@link StringTransformer} */
+    private final StringTransformer delegateTransformer;
+
+    /** {@link TextMetrics} recording the calls */
+    private final TextMetrics metrics;
+
+    /**
+     * Creates a new InstrumentedStringTransformer.
+     *
+     * @param delegateTransformer
+     *        decorated {@link StringTransformer}
+     *
+     * @param metrics
+     *        {@link TextMetrics} recording the calls
+     */
+    public InstrumentedStringTransformer(final StringTransformer delegateTransformer, final TextMetrics metrics) {
+        this.delegateTransformer = delegateTransformer;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void transform(final StringBuilder stringBuilder) {
+        if (! metrics.isEnabled()) {
+            delegateTransformer.transform(stringBuilder);
+            return;
+        }
+
+        final int originalLength = stringBuilder.length();
+        final long startAllocatedBytes = metrics.currentThreadAllocatedBytes();
+        final long startNanos = System.nanoTime();
+
+        delegateTransformer.transform(stringBuilder);
+
+        metrics.record(startNanos, startAllocatedBytes, originalLength, stringBuilder.length());
+    }
+
+    @Override
+    public int predictLength(final int originalLength) {
+        return delegateTransformer.predictLength(originalLength);
+    }
+
+    /**
+     * Returns the {@link TextMetrics} recording the calls.
+     *
+     * @return the {@link TextMetrics}
+     */
+    public TextMetrics getMetrics() {
+        return metrics;
+    }
+}
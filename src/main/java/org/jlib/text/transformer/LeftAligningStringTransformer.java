@@ -45,9 +45,20 @@ public class LeftAligningStringTransformer
     }
 
     @Override
-    public void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder, final boolean additionalPaddingCharacterRequired) {
+    protected int getLeadingPadLength(final int padLength) {
+        return 0;
+    }
+
+    /**
+     * @deprecated padding as specified by {@link #getLeadingPadLength(int)}, used unless this method is overridden
+     */
+    @Deprecated
+    @Override
+    public void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder,
+                    final boolean additionalPaddingCharacterRequired) {
         stringBuilder.append(halfPadBuilder);
         stringBuilder.append(halfPadBuilder);
+
         if (additionalPaddingCharacterRequired)
             stringBuilder.append(getPaddingCharacter());
     }
@@ -19,63 +19,323 @@
  *     limitations under the License.
  */
 
+
 package org.jlib.text.transformer;
 
+import java.util.Arrays;
+
+import org.jlib.text.BoundedConcurrentCache;
+
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import static lombok.AccessLevel.PROTECTED;
 import static org.jlib.numeric.Numeric.isOdd;
 
 /**
+ * <p>
  * Skeletal implementation of a {@link StringTransformer} padding a String.
+ * </p>
+ * <p>
+ * The padding is performed in place: the original content is shifted at most once, and the pad regions are filled
+ * in bulk from a small array of padding characters, shared by the PaddingStringTransformers using the same padding
+ * character. No temporary objects are created per transformation unless the leading pad exceeds this array.
+ * </p>
  *
  * @author Igor Akkerman
  */
-@RequiredArgsConstructor(access = PROTECTED)
 public abstract class PaddingStringTransformer
     implements StringTransformer {
 
+    /** length of a shared array of padding characters */
+    static final int PAD_CHARACTERS_LENGTH = 256;
+
+    /** shared arrays of padding characters by padding character */
+    private static final BoundedConcurrentCache<Character, char[]> PAD_CHARACTERS = new BoundedConcurrentCache<>(64);
+
+    /** whether the padding is performed by the deprecated pad hook, by PaddingStringTransformer class */
+    private static final ClassValue<Boolean> PAD_HOOK_USED = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(final Class<?> paddingStringTransformerClass) {
+            final Class<?> leadingPadLengthDeclaringClass =
+                getDeclaringClass(paddingStringTransformerClass, "getLeadingPadLength", int.class);
+            final Class<?> padDeclaringClass =
+                getDeclaringClass(paddingStringTransformerClass, "pad", StringBuilder.class, StringBuilder.class,
+                                  boolean.class);
+
+            return padDeclaringClass != leadingPadLengthDeclaringClass &&
+                   leadingPadLengthDeclaringClass.isAssignableFrom(padDeclaringClass);
+        }
+    };
+
     /** length of the String to return by this PaddingStringTransformer */
+    @Getter(PROTECTED)
     private final int finalStringLength;
 
     /** character used for padding */
     @Getter(PROTECTED)
     private final char paddingCharacter;
 
+    /** shared array of {@link #PAD_CHARACTERS_LENGTH} padding characters */
+    private final char[] padCharacters;
+
+    /** whether the padding is performed by the deprecated {@link #pad(StringBuilder, StringBuilder, boolean)} hook */
+    private final boolean padHookUsed;
+
+    /**
+     * Creates a new PaddingStringTransformer.
+     *
+     * @param finalStringLength
+     *        integer specifying the length of the String to return by this
+     *        PaddingStringTransformer
+     * @param paddingCharacter
+     *        character used for padding
+     */
+    protected PaddingStringTransformer(final int finalStringLength, final char paddingCharacter) {
+        this.finalStringLength = finalStringLength;
+        this.paddingCharacter = paddingCharacter;
+        padCharacters = padCharacters(paddingCharacter);
+        padHookUsed = PAD_HOOK_USED.get(getClass());
+    }
+
+    /**
+     * Returns the most specific class declaring the specified method, starting at the specified
+     * PaddingStringTransformer class.
+     *
+     * @param paddingStringTransformerClass
+     *        PaddingStringTransformer class
+     *
+     * @param methodName
+     *        String specifying the name of the method
+     *
+     * @param parameterTypes
+     *        parameter types of the method
+     *
+     * @return most specific class declaring the method; {@link PaddingStringTransformer} if no subclass declares it
+     */
+    private static Class<?> getDeclaringClass(final Class<?> paddingStringTransformerClass, final String methodName,
+                                              final Class<?>... parameterTypes) {
+        for (Class<?> declaringClass = paddingStringTransformerClass;
+             declaringClass != PaddingStringTransformer.class;
+             declaringClass = declaringClass.getSuperclass())
+            try {
+                declaringClass.getDeclaredMethod(methodName, parameterTypes);
+                return declaringClass;
+            }
+            catch (final NoSuchMethodException exception) {
+                // not declared by this class, continuing with the superclass
+            }
+
+        return PaddingStringTransformer.class;
+    }
+
+    /**
+     * Returns a shared array containing {@link #PAD_CHARACTERS_LENGTH} of the specified padding characters. The array
+     * must not be modified.
+     *
+     * @param paddingCharacter
+     *        character used for padding
+     *
+     * @return array of padding characters
+     */
+    static char[] padCharacters(final char paddingCharacter) {
+        return PAD_CHARACTERS.get(paddingCharacter, character -> {
+            final char[] padCharacters = new char[PAD_CHARACTERS_LENGTH];
+            Arrays.fill(padCharacters, character);
+            return padCharacters;
+        });
+    }
+
+    /**
+     * Inserts the specified number of padding characters at the specified index of the specified
+     * {@link StringBuilder}, shifting the following content once.
+     *
+     * @param stringBuilder
+     *        {@link StringBuilder} to pad
+     *
+     * @param index
+     *        integer specifying the index of the pad
+     *
+     * @param padCharacters
+     *        shared array of padding characters
+     *
+     * @param padLength
+     *        integer specifying the number of padding characters
+     */
+    static void insertPad(final StringBuilder stringBuilder, final int index, final char[] padCharacters,
+                          final int padLength) {
+        if (padLength <= padCharacters.length)
+            stringBuilder.insert(index, padCharacters, 0, padLength);
+        else
+            stringBuilder.insert(index, new PadCharSequence(padCharacters[0], padLength));
+    }
+
+    /**
+     * Appends the specified number of padding characters to the specified {@link StringBuilder}.
+     *
+     * @param stringBuilder
+     *        {@link StringBuilder} to pad
+     *
+     * @param padCharacters
+     *        shared array of padding characters
+     *
+     * @param padLength
+     *        integer specifying the number of padding characters
+     */
+    static void appendPad(final StringBuilder stringBuilder, final char[] padCharacters, final int padLength) {
+        for (int remainingPadLength = padLength; remainingPadLength > 0; remainingPadLength -= padCharacters.length)
+            stringBuilder.append(padCharacters, 0, Math.min(remainingPadLength, padCharacters.length));
+    }
+
     @Override
     public void transform(final StringBuilder stringBuilder) {
-        if (stringBuilder.length() >= finalStringLength)
+        final int originalLength = stringBuilder.length();
+
+        if (originalLength >= finalStringLength)
             return;
 
         stringBuilder.ensureCapacity(finalStringLength);
 
-        final int originalLength = stringBuilder.length();
         final int padLength = finalStringLength - originalLength;
+
+        if (padHookUsed) {
+            padUsingPadHook(stringBuilder, padLength);
+            return;
+        }
+
+        final int leadingPadLength = getLeadingPadLength(padLength);
+        final int trailingPadLength = padLength - leadingPadLength;
+
+        if (leadingPadLength > 0)
+            insertPad(stringBuilder, 0, padCharacters, leadingPadLength);
+
+        appendPad(stringBuilder, padCharacters, trailingPadLength);
+    }
+
+    @SuppressWarnings("deprecation")
+    private void padUsingPadHook(final StringBuilder stringBuilder, final int padLength) {
         final int halfPadLength = padLength / 2;
 
         final StringBuilder halfPadBuilder = new StringBuilder(halfPadLength);
-        for (int halfPadIndex = 0; halfPadIndex < halfPadLength; halfPadIndex++)
-            halfPadBuilder.append(paddingCharacter);
+        appendPad(halfPadBuilder, padCharacters, halfPadLength);
 
         pad(stringBuilder, halfPadBuilder, isOdd(padLength));
     }
 
+    @Override
+    public int predictLength(final int originalLength) {
+        return Math.max(originalLength, finalStringLength);
+    }
+
+    /**
+     * Returns the array containing {@link #PAD_CHARACTERS_LENGTH} padding characters, shared by the
+     * PaddingStringTransformers using the same padding character. The array must not be modified.
+     *
+     * @return array of padding characters
+     */
+    char[] getPadCharacters() {
+        return padCharacters;
+    }
+
+    /**
+     * <p>
+     * Returns the number of padding characters to insert before the String, assuming that the String is shorter
+     * than the String to return. The remaining padding characters are appended after the String.
+     * </p>
+     * <p>
+     * Used instead of {@link #pad(StringBuilder, StringBuilder, boolean)} unless the latter is overridden by a
+     * subclass of the class overriding this method, as in the subclasses written before this method was introduced.
+     * This implementation centers the String, putting the additional padding character of an odd pad after it.
+     * </p>
+     *
+     * @param padLength
+     *        positive integer specifying the total number of padding characters
+     *
+     * @return integer specifying the number of padding characters before the String; between {@code 0} and
+     *         {@code padLength}
+     */
+    protected int getLeadingPadLength(final int padLength) {
+        return padLength / 2;
+    }
+
+    /**
+     * Verifies whether the padding is performed by the deprecated {@link #pad(StringBuilder, StringBuilder, boolean)}
+     * hook. The padding of such a PaddingStringTransformer cannot be fused with others.
+     *
+     * @return {@code true} if the padding is performed by the hook; {@code false} otherwise
+     */
+    final boolean usesPadHook() {
+        return padHookUsed;
+    }
+
     /**
      * Performs the padding, assuming that the String contained by the specified
      * {@link StringBuilder} is shorter than the String to return and the
-     * specified {@link StringBuilder} has a sufficient capacity.
+     * specified {@link StringBuilder} has a sufficient capacity. Called only if this method is overridden by a
+     * subclass of the class overriding {@link #getLeadingPadLength(int)}.
      *
      * @param stringBuilder
      *        {@link StringBuilder} containing the String to transform
      *
      * @param halfPadBuilder
-     *        {@link StringBuilder}
+     *        {@link StringBuilder} containing half of the padding characters, rounded down
      *
      * @param additionalPaddingCharacterRequired
      *        {@code true} if an additional padding character should be used;
      *        {@code false} otherwise
+     *
+     * @deprecated override {@link #getLeadingPadLength(int)} instead, letting this PaddingStringTransformer pad in
+     *             place without temporary objects
      */
+    @Deprecated
     protected abstract void pad(StringBuilder stringBuilder, StringBuilder halfPadBuilder,
                                 boolean additionalPaddingCharacterRequired);
+
+    /**
+     * {@link CharSequence} repeating a padding character, inserted as a pad exceeding the shared array of padding
+     * characters.
+     */
+    private static final class PadCharSequence
+        implements CharSequence {
+
+        /** padding character */
+        private final char paddingCharacter;
+
+        /** number of padding characters */
+        private final int length;
+
+        private PadCharSequence(final char paddingCharacter, final int length) {
+            this.paddingCharacter = paddingCharacter;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("index=" + index + ", length=" + length);
+
+            return paddingCharacter;
+        }
+
+        @Override
+        public CharSequence subSequence(final int startIndex, final int endIndex) {
+            if (startIndex < 0 || startIndex > endIndex || endIndex > length)
+                throw new IndexOutOfBoundsException("startIndex=" + startIndex + ", endIndex=" + endIndex +
+                                                    ", length=" + length);
+
+            return new PadCharSequence(paddingCharacter, endIndex - startIndex);
+        }
+
+        @Override
+        public String toString() {
+            final char[] characters = new char[length];
+            Arrays.fill(characters, paddingCharacter);
+            return new String(characters);
+        }
+    }
 }
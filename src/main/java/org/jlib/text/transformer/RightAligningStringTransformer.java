@@ -45,8 +45,19 @@ public class RightAligningStringTransformer
     }
 
     @Override
-    public void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder, final boolean additionalPaddingCharacterRequired) {
+    protected int getLeadingPadLength(final int padLength) {
+        return padLength;
+    }
+
+    /**
+     * @deprecated padding as specified by {@link #getLeadingPadLength(int)}, used unless this method is overridden
+     */
+    @Deprecated
+    @Override
+    public void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder,
+                    final boolean additionalPaddingCharacterRequired) {
         halfPadBuilder.append(halfPadBuilder);
+
         if (additionalPaddingCharacterRequired)
             halfPadBuilder.append(getPaddingCharacter());
 
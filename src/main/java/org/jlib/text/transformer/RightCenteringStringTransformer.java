@@ -46,11 +46,22 @@ public class RightCenteringStringTransformer
     }
 
     @Override
-    public void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder, final boolean additionalPaddingCharacterRequired) {
+    protected int getLeadingPadLength(final int padLength) {
+        return padLength - padLength / 2;
+    }
+
+    /**
+     * @deprecated padding as specified by {@link #getLeadingPadLength(int)}, used unless this method is overridden
+     */
+    @Deprecated
+    @Override
+    public void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder,
+                    final boolean additionalPaddingCharacterRequired) {
+        stringBuilder.append(halfPadBuilder);
+
         if (additionalPaddingCharacterRequired)
             halfPadBuilder.append(getPaddingCharacter());
 
         stringBuilder.insert(0, halfPadBuilder);
-        stringBuilder.append(halfPadBuilder);
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import org.jlib.text.AsciiCharacterClass;
+
+import static org.jlib.text.AsciiScanning.indexOf;
+import static org.jlib.text.transformer.CaseConversion.codePointAt;
+import static org.jlib.text.transformer.CaseConversion.setCodePointAt;
+import static org.jlib.text.transformer.CaseConversion.toLowerCase;
+import static org.jlib.text.transformer.CaseConversion.toUpperCase;
+
+/**
+ * <p>
+ * {@link StringTransformer} converting words separated by the specified separator, such as snake case or kebab case,
+ * into camel case, for instance, {@code parse_http_response} into {@code parseHttpResponse}. The first word is
+ * converted to lower case, each following word to lower case starting with an upper case letter.
+ * </p>
+ * <p>
+ * Separators preceding the first word and following the last word are retained. The String is converted in place
+ * within a single pass, moving the characters towards the start of the {@link StringBuilder}. The leading lower case
+ * ASCII characters, remaining unchanged, are skipped by {@link org.jlib.text.AsciiScanning}.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public class SeparatedWordsToCamelCaseTransformer
+    implements StringTransformer {
+
+    /** separator of the words */
+    private final char separator;
+
+    /** characters possibly converted or removed */
+    private final AsciiCharacterClass convertedCharacters;
+
+    /**
+     * Creates a new SeparatedWordsToCamelCaseTransformer.
+     *
+     * @param separator
+     *        character separating the words
+     */
+    public SeparatedWordsToCamelCaseTransformer(final char separator) {
+        this.separator = separator;
+
+        final AsciiCharacterClass upperCaseLettersOrNonAscii = AsciiCharacterClass.UPPER_CASE_LETTERS.orNonAscii();
+        convertedCharacters = separator < 0x80
+                              ? upperCaseLettersOrNonAscii.or(AsciiCharacterClass.anyOf(separator))
+                              : upperCaseLettersOrNonAscii;
+    }
+
+    @Override
+    public void transform(final StringBuilder stringBuilder) {
+        final int length = stringBuilder.length();
+        final int firstConvertedIndex = indexOf(stringBuilder, 0, length, convertedCharacters);
+
+        if (firstConvertedIndex == - 1)
+            return;
+
+        int readIndex = firstConvertedIndex;
+        int writeIndex = firstConvertedIndex;
+        int pendingSeparatorCount = 0;
+        boolean wordFound = firstConvertedIndex > 0;
+
+        while (readIndex < length) {
+            final int codePoint = codePointAt(stringBuilder, readIndex);
+            readIndex += Character.charCount(codePoint);
+
+            if (codePoint == separator) {
+                if (wordFound)
+                    pendingSeparatorCount++;
+                else
+                    stringBuilder.setCharAt(writeIndex++, separator);
+                continue;
+            }
+
+            final int convertedCodePoint = pendingSeparatorCount != 0
+                                           ? toUpperCase(codePoint)
+                                           : toLowerCase(codePoint);
+
+            setCodePointAt(stringBuilder, writeIndex, convertedCodePoint);
+            writeIndex += Character.charCount(convertedCodePoint);
+
+            pendingSeparatorCount = 0;
+            wordFound = true;
+        }
+
+        for (; pendingSeparatorCount > 0; pendingSeparatorCount--)
+            stringBuilder.setCharAt(writeIndex++, separator);
+
+        stringBuilder.setLength(writeIndex);
+    }
+}
@@ -21,9 +21,12 @@
 
 package org.jlib.text.transformer;
 
+import java.nio.ByteBuffer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.jlib.text.Utf8ByteBufferAppendable;
+
 /**
  * Transformer of a String using the strategy defined by the implementation of this interface.
  * The actual transformation is performed within a {@link StringBuilder}, which is passed as an argument to the
@@ -36,6 +39,9 @@ public interface StringTransformer
     extends Consumer<StringBuilder>,
             Function<String, String> {
 
+    /** length returned by {@link #predictLength(int)} if no prediction can be made */
+    int UNKNOWN_LENGTH = - 1;
+
     /**
      * Transforms the String contained by the specified {@link StringBuilder}
      * using the strategy of this {@link StringTransformer}.
@@ -45,6 +51,21 @@ public interface StringTransformer
      */
     void transform(StringBuilder stringBuilder);
 
+    /**
+     * Predicts the length of the String returned by this {@link StringTransformer} for a String of the specified
+     * length. A caller may use the prediction to ensure a sufficient capacity of the {@link StringBuilder} before the
+     * transformation. The prediction is optional; this implementation returns {@link #UNKNOWN_LENGTH}.
+     *
+     * @param originalLength
+     *        integer specifying the length of the String to transform
+     *
+     * @return integer specifying the predicted length of the transformed String;
+     *         {@link #UNKNOWN_LENGTH} if no prediction can be made
+     */
+    default int predictLength(final int originalLength) {
+        return UNKNOWN_LENGTH;
+    }
+
     /**
      * Transforms the specified {@link CharSequence} using this´{@link StringTransformer}.
      *
@@ -59,6 +80,26 @@ public interface StringTransformer
         return stringBuilder.toString();
     }
 
+    /**
+     * Transforms the String contained by the specified {@link StringBuilder} using this {@link StringTransformer} and
+     * encodes the result as UTF-8 into the specified {@link ByteBuffer}, which may be a direct buffer, without
+     * creating an intermediate {@link String} or byte array.
+     *
+     * @param stringBuilder
+     *        {@link StringBuilder} containing the String to transform; contains the transformed String afterwards
+     *
+     * @param target
+     *        {@link ByteBuffer} into which the transformed String is encoded
+     *
+     * @return {@code true} if the transformed String has been completely encoded;
+     *         {@code false} if the remaining space of {@code target} is insufficient, in which case its position is
+     *         left unchanged
+     */
+    default boolean transformTo(final StringBuilder stringBuilder, final ByteBuffer target) {
+        transform(stringBuilder);
+        return Utf8ByteBufferAppendable.encode(stringBuilder, target);
+    }
+
     @Override
     default void accept(final StringBuilder stringBuilder) {
         transform(stringBuilder);
@@ -175,10 +175,97 @@ public final class StringTransformers {
         return new RightAligningStringTransformer(finalStringLength, paddingCharacter);
     }
 
+    /**
+     * Returns a new immutable {@link StringTransformer} applying the specified
+     * {@link StringTransformer StringTransformers} in sequence. Adjacent padding
+     * {@link StringTransformer StringTransformers} are fused into a single
+     * operation.
+     *
+     * @param stringTransformers
+     *        argument sequence of {@link StringTransformer StringTransformers}
+     *        in the order of application
+     *
+     * @return the newly created {@link StringTransformer}
+     *
+     * @see CompositeStringTransformer#compile()
+     */
+    public static StringTransformer compose(final StringTransformer... stringTransformers) {
+        return new CompositeStringTransformer(stringTransformers).compile();
+    }
+
+    /**
+     * Creates a new {@link StringTransformer} converting a camel case String
+     * into lower case words separated by spaces, for instance,
+     * {@code parseHttpResponse} into {@code parse http response}.
+     *
+     * @return the newly created {@link StringTransformer}
+     *
+     * @see CamelCaseToLowerCaseWordsTransformer
+     */
     public static StringTransformer camelCaseToLowerCaseWords() {
         return new CamelCaseToLowerCaseWordsTransformer();
     }
 
+    /**
+     * Creates a new {@link StringTransformer} converting a camel case String into snake case, for instance,
+     * {@code parseHTTPResponse} into {@code parse_http_response}.
+     *
+     * @return the newly created {@link StringTransformer}
+     *
+     * @see CamelCaseToSeparatedWordsTransformer
+     */
+    public static StringTransformer camelCaseToSnakeCase() {
+        return new CamelCaseToSeparatedWordsTransformer('_');
+    }
+
+    /**
+     * Creates a new {@link StringTransformer} converting a camel case String into kebab case, for instance,
+     * {@code parseHTTPResponse} into {@code parse-http-response}.
+     *
+     * @return the newly created {@link StringTransformer}
+     *
+     * @see CamelCaseToSeparatedWordsTransformer
+     */
+    public static StringTransformer camelCaseToKebabCase() {
+        return new CamelCaseToSeparatedWordsTransformer('-');
+    }
+
+    /**
+     * Creates a new {@link StringTransformer} converting a snake case String into camel case, for instance,
+     * {@code parse_http_response} into {@code parseHttpResponse}.
+     *
+     * @return the newly created {@link StringTransformer}
+     *
+     * @see SeparatedWordsToCamelCaseTransformer
+     */
+    public static StringTransformer snakeCaseToCamelCase() {
+        return new SeparatedWordsToCamelCaseTransformer('_');
+    }
+
+    /**
+     * Creates a new {@link StringTransformer} converting a kebab case String into camel case, for instance,
+     * {@code parse-http-response} into {@code parseHttpResponse}.
+     *
+     * @return the newly created {@link StringTransformer}
+     *
+     * @see SeparatedWordsToCamelCaseTransformer
+     */
+    public static StringTransformer kebabCaseToCamelCase() {
+        return new SeparatedWordsToCamelCaseTransformer('-');
+    }
+
+    /**
+     * Creates a new {@link StringTransformer} converting a String into title case, for instance,
+     * {@code the QUICK brown-fox} into {@code The Quick Brown-Fox}.
+     *
+     * @return the newly created {@link StringTransformer}
+     *
+     * @see TitleCaseTransformer
+     */
+    public static StringTransformer titleCase() {
+        return new TitleCaseTransformer();
+    }
+
     /**
      * Returns a new {@link StringTransformer} using the specified format (as
      * defined by {@link Formatter}) to transform the String. The content of the
@@ -0,0 +1,69 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import static org.jlib.text.transformer.CaseConversion.OTHER;
+import static org.jlib.text.transformer.CaseConversion.characterClass;
+import static org.jlib.text.transformer.CaseConversion.codePointAt;
+import static org.jlib.text.transformer.CaseConversion.setCodePointAt;
+import static org.jlib.text.transformer.CaseConversion.toLowerCase;
+import static org.jlib.text.transformer.CaseConversion.toTitleCase;
+
+/**
+ * {@link StringTransformer} converting a String into title case, for instance, {@code the QUICK brown-fox} into
+ * {@code The Quick Brown-Fox}. Each word starts with a title case letter followed by lower case letters. A word is a
+ * sequence of letters, digits and apostrophes. The String is converted in place within a single pass.
+ *
+ * @author Igor Akkerman
+ */
+public class TitleCaseTransformer
+    implements StringTransformer {
+
+    @Override
+    public void transform(final StringBuilder stringBuilder) {
+        final int length = stringBuilder.length();
+
+        boolean wordStart = true;
+        int index = 0;
+
+        while (index < length) {
+            final int codePoint = codePointAt(stringBuilder, index);
+
+            if (characterClass(codePoint) == OTHER)
+                wordStart = wordStart || codePoint != '\'';
+            else {
+                setCodePointAt(stringBuilder, index, wordStart
+                                                     ? toTitleCase(codePoint)
+                                                     : toLowerCase(codePoint));
+                wordStart = false;
+            }
+
+            index += Character.charCount(codePoint);
+        }
+    }
+
+    @Override
+    public int predictLength(final int originalLength) {
+        return originalLength;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * <p>
+ * Test harness asserting the number of bytes allocated per operation, measured by
+ * {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. If the JVM does not support measuring the
+ * allocated bytes of a thread, the asserting test is skipped.
+ * </p>
+ * <p>
+ * The operation is warmed up first, so the JIT compiler has applied escape analysis, and then measured over many
+ * iterations. The result is the average number of bytes per operation, corrected by the bytes allocated by the
+ * measurement itself.
+ * </p>
+ *
+ * @author Igor Akkerman
+ */
+public final class AllocationBudget {
+
+    /** number of operations executed before measuring */
+    private static final int WARMUP_ITERATIONS = 50_000;
+
+    /** number of measured operations */
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    /** number of measurement rounds; the round with the fewest allocated bytes counts */
+    private static final int ROUNDS = 5;
+
+    private AllocationBudget() {
+    }
+
+    /**
+     * Asserts that the specified operation allocates at most the specified number of bytes on average.
+     *
+     * @param description
+     *        {@link String} describing the operation
+     *
+     * @param maximumBytesPerOperation
+     *        long specifying the allocation budget in bytes per operation
+     *
+     * @param operation
+     *        {@link Runnable} performing the operation
+     */
+    public static void assertAllocatesAtMost(final String description, final long maximumBytesPerOperation,
+                                             final Runnable operation) {
+        assertThat(allocatedBytesPerOperation(operation))
+            .as("bytes allocated per operation by " + description)
+            .isLessThanOrEqualTo(maximumBytesPerOperation);
+    }
+
+    /**
+     * Asserts that the specified operation allocates nothing, allowing for measurement noise below one byte per
+     * operation.
+     *
+     * @param description
+     *        {@link String} describing the operation
+     *
+     * @param operation
+     *        {@link Runnable} performing the operation
+     */
+    public static void assertAllocatesNothing(final String description, final Runnable operation) {
+        assertAllocatesAtMost(description, 0, operation);
+    }
+
+    /**
+     * Measures the average number of bytes allocated by the specified operation.
+     *
+     * @param operation
+     *        {@link Runnable} performing the operation
+     *
+     * @return long specifying the average number of bytes allocated per operation, rounded down
+     */
+    public static long allocatedBytesPerOperation(final Runnable operation) {
+        final com.sun.management.ThreadMXBean threadMXBean = allocationThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        for (int iteration = 0; iteration < WARMUP_ITERATIONS; iteration++)
+            operation.run();
+
+        final long firstAllocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        final long measurementOverhead = threadMXBean.getThreadAllocatedBytes(threadId) - firstAllocatedBytes;
+
+        long minimumAllocatedBytes = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            final long startAllocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+
+            for (int iteration = 0; iteration < MEASURED_ITERATIONS; iteration++)
+                operation.run();
+
+            final long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startAllocatedBytes -
+                                        measurementOverhead;
+
+            minimumAllocatedBytes = Math.min(minimumAllocatedBytes, allocatedBytes);
+        }
+
+        return Math.max(0, minimumAllocatedBytes) / MEASURED_ITERATIONS;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationThreadMXBean() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean,
+                   "com.sun.management.ThreadMXBean not available");
+
+        final com.sun.management.ThreadMXBean allocationThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+
+        assumeTrue(allocationThreadMXBean.isThreadAllocatedMemorySupported() &&
+                   allocationThreadMXBean.isThreadAllocatedMemoryEnabled(),
+                   "thread allocated memory measurement not enabled");
+
+        return allocationThreadMXBean;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.jlib.text.templateengine.MessageFormatTemplateEngine;
+import org.jlib.text.templateengine.PlaceholderTemplateEngine;
+import org.jlib.text.templateengine.PrintfTemplateEngine;
+import org.jlib.text.templateengine.TemplateEngine;
+import org.jlib.text.transformer.CenteringStringTransformer;
+import org.jlib.text.transformer.LeftAligningStringTransformer;
+import org.jlib.text.transformer.RightAligningStringTransformer;
+import org.junit.jupiter.api.Test;
+
+import static org.jlib.text.AllocationBudget.assertAllocatesAtMost;
+import static org.jlib.text.AllocationBudget.assertAllocatesNothing;
+
+/**
+ * Allocation budgets of the hot paths, guarding their garbage-free guarantees against regressions.
+ *
+ * @author Igor Akkerman
+ */
+public class AllocationBudgetTest {
+
+    /** non-ASCII text, as boxing a non-ASCII character allocates a new {@link Character} */
+    private static final String NON_ASCII_TEXT = "àéîõü ÀÉÎÕÜ ñç ßø äöü ÄÖÜ ÿ àéîõü ÀÉÎÕÜ ñç ßø";
+
+    /** budget of a traversal, allowing for the iterator objects but not for any allocation per character */
+    private static final long TRAVERSAL_BUDGET = 96;
+
+    private static int sink;
+
+    @Test
+    public void paddingSizedBuilderAllocatesNothing() {
+
+        // given
+        final StringBuilder stringBuilder = new StringBuilder(64);
+        final LeftAligningStringTransformer leftAligner = new LeftAligningStringTransformer(20, ' ');
+        final RightAligningStringTransformer rightAligner = new RightAligningStringTransformer(30, '-');
+        final CenteringStringTransformer centerer = new CenteringStringTransformer(40, '*');
+
+        // then
+        assertAllocatesNothing("padding an already sized StringBuilder", () -> {
+            stringBuilder.setLength(0);
+            stringBuilder.append("abc");
+            leftAligner.transform(stringBuilder);
+            rightAligner.transform(stringBuilder);
+            centerer.transform(stringBuilder);
+        });
+    }
+
+    @Test
+    public void charIteratorTraversalAllocatesNothingPerCharacter() {
+        assertAllocatesAtMost("CharIterator traversal", TRAVERSAL_BUDGET, () -> {
+            final CharIterator charIterator = new CharSequenceIterator(NON_ASCII_TEXT).asCharIterator();
+            while (charIterator.hasNext())
+                sink += charIterator.nextChar();
+        });
+    }
+
+    @Test
+    public void forEachCharAllocatesNothingPerCharacter() {
+        assertAllocatesAtMost("CharIterable.forEachChar", TRAVERSAL_BUDGET,
+                              () -> CharSequenceIterator.charIterable(NON_ASCII_TEXT)
+                                                        .forEachChar(character -> sink += character));
+    }
+
+    @Test
+    public void elementRangesAllocateNothing() {
+
+        // given
+        final Splitter splitter = Splitter.on(',');
+
+        // then
+        assertAllocatesNothing("Splitter.forEachElementRange",
+                               () -> splitter.forEachElementRange("a,bb,ccc", (startIndex, endIndex) -> sink += endIndex));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void splitIntoAllocatesOnlyElements() {
+
+        // given
+        final String[] elements = new String[3];
+
+        // then
+        assertAllocatesAtMost("Text.splitInto of three elements", 320,
+                              () -> Text.splitInto("a,bb,ccc", ",", element -> elements[0] = element,
+                                                   element -> elements[1] = element,
+                                                   element -> elements[2] = element));
+    }
+
+    @Test
+    public void printfIntoBuilderAllocatesNothing() {
+        assertRenderingIntoBuilderAllocatesAtMost(PrintfTemplateEngine.INSTANCE, "x %s y %5d", 0, "value", 42);
+    }
+
+    @Test
+    public void placeholderIntoBuilderAllocatesNothing() {
+        assertRenderingIntoBuilderAllocatesAtMost(PlaceholderTemplateEngine.INSTANCE, "x {0} y {1}", 0, "value", "other");
+    }
+
+    @Test
+    public void messageFormatIntoBuilderWithinBudget() {
+        assertRenderingIntoBuilderAllocatesAtMost(MessageFormatTemplateEngine.INSTANCE, "x {0} y {1}", 256, "value",
+                                                  "other");
+    }
+
+    @Test
+    public void printfToStringWithinBudget() {
+
+        // given
+        final Object[] arguments = { "value", 42 };
+
+        // then
+        assertAllocatesAtMost("PrintfTemplateEngine.applyArguments", 256,
+                              () -> sink += PrintfTemplateEngine.INSTANCE.applyArguments("x %s y %5d", arguments)
+                                                                         .length());
+    }
+
+    private static void assertRenderingIntoBuilderAllocatesAtMost(final TemplateEngine<Object> templateEngine,
+                                                                  final String template,
+                                                                  final long maximumBytesPerOperation,
+                                                                  final Object... arguments) {
+        final StringBuilder target = new StringBuilder(64);
+
+        assertAllocatesAtMost(templateEngine.getClass().getSimpleName() + " into a StringBuilder",
+                              maximumBytesPerOperation, () -> {
+                target.setLength(0);
+                try {
+                    templateEngine.applyArgumentsTo(target, template, arguments);
+                }
+                catch (final IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+    }
+}
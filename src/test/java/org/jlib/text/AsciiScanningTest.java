@@ -0,0 +1,115 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test case for the {@link AsciiScanning} and the {@link AsciiCharacterClass}.
+ *
+ * @author Igor Akkerman
+ */
+public class AsciiScanningTest {
+
+    /** characters of the random test strings, including non-ASCII characters with ASCII low bits */
+    private static final char[] CHARACTERS = { 'a', 'z', 'A', 'Z', '@', '[', '_', '-', '0', '9', ' ', '\u007F', '\u0080',
+                                               'Ä', 'Ł', '聁', '聟', '\uD801', '\uDC00', '￿' };
+
+    private static String randomString(final Random random) {
+        final char[] characters = new char[random.nextInt(20)];
+        for (int index = 0; index < characters.length; index++)
+            characters[index] = random.nextInt(4) == 0
+                                ? CHARACTERS[random.nextInt(CHARACTERS.length)]
+                                : 'a';
+        return new String(characters);
+    }
+
+    @Test
+    public void sameResultsAsCharacterwiseScan() {
+        // given
+        final Random random = new Random(42);
+        final AsciiCharacterClass separatorsOrUpperCaseLetters =
+            AsciiCharacterClass.anyOf('_', '-').or(AsciiCharacterClass.UPPER_CASE_LETTERS);
+        final AsciiCharacterClass upperCaseLettersOrNonAscii = AsciiCharacterClass.UPPER_CASE_LETTERS.orNonAscii();
+
+        for (int iteration = 0; iteration < 10_000; iteration++) {
+            final String string = randomString(random);
+            final int startIndex = random.nextInt(string.length() + 1);
+
+            // when
+            // then
+            assertThat(AsciiScanning.indexOfNonAscii(string, startIndex, string.length()))
+                .as(string).isEqualTo(scan(string, startIndex, character -> character >= 0x80));
+            assertThat(AsciiScanning.isAscii(string)).as(string).isEqualTo(string.chars().allMatch(c -> c < 0x80));
+            assertThat(AsciiScanning.indexOfAny(string, startIndex, string.length(), '_', '聟', '￿'))
+                .as(string).isEqualTo(scan(string, startIndex, c -> c == '_' || c == '聟' || c == '￿'));
+            assertThat(AsciiScanning.indexOf(string, startIndex, string.length(), separatorsOrUpperCaseLetters))
+                .as(string).isEqualTo(scan(string, startIndex, c -> c == '_' || c == '-' || c >= 'A' && c <= 'Z'));
+            assertThat(AsciiScanning.indexOf(string, startIndex, string.length(), upperCaseLettersOrNonAscii))
+                .as(string).isEqualTo(scan(string, startIndex, c -> c >= 0x80 || c >= 'A' && c <= 'Z'));
+            assertThat(AsciiScanning.indexOf(string, startIndex, string.length(), AsciiCharacterClass.NONE))
+                .as(string).isEqualTo(- 1);
+        }
+    }
+
+    private static int scan(final String string, final int startIndex, final IntPredicate predicate) {
+        for (int index = startIndex; index < string.length(); index++)
+            if (predicate.test(string.charAt(index)))
+                return index;
+        return - 1;
+    }
+
+    @Test
+    public void containsAny() {
+        assertThat(AsciiScanning.containsAny("snake_case", '_', '-')).isTrue();
+        assertThat(AsciiScanning.containsAny("camelCase", '_', '-')).isFalse();
+        assertThat(AsciiScanning.containsAny("", '_')).isFalse();
+    }
+
+    @Test
+    public void characterClassContains() {
+        // given
+        final AsciiCharacterClass characterClass = AsciiCharacterClass.DIGITS.or(AsciiCharacterClass.anyOf('~'));
+
+        // when
+        // then
+        assertThat(characterClass.contains('0')).isTrue();
+        assertThat(characterClass.contains('9')).isTrue();
+        assertThat(characterClass.contains('~')).isTrue();
+        assertThat(characterClass.contains('a')).isFalse();
+        assertThat(characterClass.contains('Ä')).isFalse();
+        assertThat(characterClass.orNonAscii().contains('Ä')).isTrue();
+    }
+
+    @Test
+    public void nonAsciiRangeRejected() {
+        assertThatThrownBy(() -> AsciiCharacterClass.range('a', 'Ä')).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AsciiCharacterClass.range('z', 'a')).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test case for the {@link BoundedConcurrentCache}.
+ *
+ * @author Igor Akkerman
+ */
+public class BoundedConcurrentCacheTest {
+
+    @Test
+    public void cachedValueNotRecomputed() {
+
+        // given
+        final BoundedConcurrentCache<String, Integer> cache = new BoundedConcurrentCache<>(4);
+        final AtomicInteger computationCount = new AtomicInteger();
+
+        // when
+        cache.get("abc", key -> computationCount.incrementAndGet());
+        final Integer value = cache.get("abc", key -> computationCount.incrementAndGet());
+
+        // then
+        assertThat(value).isEqualTo(1);
+        assertThat(computationCount).hasValue(1);
+    }
+
+    @Test
+    public void sizeBounded() {
+
+        // given
+        final BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(16);
+
+        // when
+        for (int key = 0; key < 1000; key++)
+            cache.get(key, Integer::valueOf);
+
+        // then
+        assertThat(cache.size()).isEqualTo(16);
+    }
+
+    @Test
+    public void hotKeyNotEvictedRepeatedly() {
+
+        // given
+        final BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(16);
+        final AtomicInteger hotKeyComputationCount = new AtomicInteger();
+
+        // when
+        for (int coldKey = 1; coldKey <= 1000; coldKey++) {
+            // 0 is in the first bucket, the first key reached by iterating the cached keys
+            cache.get(0, key -> hotKeyComputationCount.incrementAndGet());
+            cache.get(coldKey, Integer::valueOf);
+        }
+
+        // then
+        // a randomly chosen victim is the hot key in about 1 of 16 evictions
+        assertThat(hotKeyComputationCount.get()).isLessThan(500);
+    }
+
+    @Test
+    public void nonPositiveMaximumSizeRejected() {
+        assertThatThrownBy(() -> new BoundedConcurrentCache<String, String>(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
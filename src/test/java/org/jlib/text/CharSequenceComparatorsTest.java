@@ -0,0 +1,125 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jlib.text.CharSequenceComparators.asciiCaseInsensitive;
+import static org.jlib.text.CharSequenceComparators.byLength;
+import static org.jlib.text.CharSequenceComparators.byLengthThenLexicographic;
+import static org.jlib.text.CharSequenceComparators.lexicographic;
+import static org.jlib.text.CharSequenceComparators.sortByCachedKey;
+
+public class CharSequenceComparatorsTest {
+
+    @Test
+    public void lexicographicLikeString() {
+        final String[] strings = { "", "a", "ab", "b", "B", "ä", "aa" };
+
+        for (final String string1 : strings)
+            for (final String string2 : strings)
+                assertThat(Integer.signum(lexicographic().compare(new StringBuilder(string1), string2)))
+                    .as(string1 + " " + string2)
+                    .isEqualTo(Integer.signum(string1.compareTo(string2)));
+    }
+
+    @Test
+    public void byLengthThenLexicographicSorts() {
+
+        // given
+        final List<CharSequence> charSequences = new ArrayList<>(Arrays.asList("bb", new StringBuilder("c"), "ab", "a"));
+
+        // when
+        charSequences.sort(byLengthThenLexicographic());
+
+        // then
+        assertThat(charSequences).extracting(CharSequence::toString).containsExactly("a", "c", "ab", "bb");
+    }
+
+    @Test
+    public void byLengthIgnoresCharacters() {
+        assertThat(byLength().compare("ab", new StringBuilder("xy"))).isZero();
+        assertThat(byLength().compare("a", "xy")).isNegative();
+    }
+
+    @Test
+    public void asciiCaseInsensitiveIgnoresOnlyAsciiCase() {
+        assertThat(asciiCaseInsensitive().compare("BlUb", "bLuB")).isZero();
+        assertThat(asciiCaseInsensitive().compare("Ä", "ä")).isNotZero();
+        assertThat(asciiCaseInsensitive().compare("a", "B")).isNegative();
+    }
+
+    @Test
+    public void sortByCachedKeyComputesEachKeyOnce() {
+
+        // given
+        final List<Integer> items = new ArrayList<>(Arrays.asList(300, 1, 20, 4000));
+        final List<Integer> keyedItems = new ArrayList<>();
+
+        // when
+        sortByCachedKey(items, item -> {
+            keyedItems.add(item);
+            return item.toString();
+        }, byLength());
+
+        // then
+        assertThat(items).containsExactly(1, 20, 300, 4000);
+        assertThat(keyedItems).hasSize(4);
+    }
+
+    @Test
+    public void stringLengthComparatorReadsCharSequenceLength() {
+
+        // given
+        final CharSequence charSequence = new CharSequence() {
+
+            @Override
+            public int length() {
+                return 4;
+            }
+
+            @Override
+            public char charAt(final int index) {
+                return 'x';
+            }
+
+            @Override
+            public CharSequence subSequence(final int startIndex, final int endIndex) {
+                throw new AssertionError();
+            }
+
+            @Override
+            public String toString() {
+                throw new AssertionError();
+            }
+        };
+
+        // then
+        assertThat(Text.<Object>stringLength().compare(charSequence, "Bla")).isPositive();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CharSequenceIteratorTest {
+
+    @Test
+    public void charIterator() {
+
+        // given
+        final StringBuilder characters = new StringBuilder();
+
+        // when
+        Text.asCharIterable("Blubber", 1, 4).forEachChar(character -> characters.append((char) character));
+
+        // then
+        assertThat(characters.toString()).isEqualTo("lubb");
+    }
+
+    @Test
+    public void nextIntAndNextCharShareThePosition() {
+
+        // given
+        final CharIterator charIterator = new CharSequenceIterator("Bla").asCharIterator();
+
+        // then
+        assertThat(charIterator.nextChar()).isEqualTo('B');
+        assertThat(charIterator.nextInt()).isEqualTo('l');
+        assertThat(charIterator.next()).isEqualTo((int) 'a');
+        assertThat(charIterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void stringBuilderIteratorRemovesThroughCharIterator() {
+
+        // given
+        final StringBuilder stringBuilder = new StringBuilder("B1l2u3b");
+        final CharIterator charIterator = new StringBuilderIterator(stringBuilder).asCharIterator();
+
+        // when
+        while (charIterator.hasNext())
+            if (Character.isDigit(charIterator.nextChar()))
+                charIterator.remove();
+
+        // then
+        assertThat(stringBuilder.toString()).isEqualTo("Blub");
+    }
+
+    @Test
+    public void stringBuilderIteratorRemovesOnlyOnce() {
+
+        // given
+        final StringBuilderIterator stringBuilderIterator = new StringBuilderIterator(new StringBuilder("Bla"));
+        stringBuilderIterator.nextChar();
+        stringBuilderIterator.remove();
+
+        // then
+        assertThatThrownBy(stringBuilderIterator::remove).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void stringBuilderIteratorRemovesIfInSubsequence() {
+
+        // given
+        final StringBuilder stringBuilder = new StringBuilder("1B2l3u4b5");
+        final StringBuilderIterator stringBuilderIterator = new StringBuilderIterator(stringBuilder, 0, 6);
+        stringBuilderIterator.nextChar();
+
+        // when
+        final int removedCharacterCount = stringBuilderIterator.removeIf(Character::isDigit);
+
+        // then
+        assertThat(removedCharacterCount).isEqualTo(3);
+        assertThat(stringBuilder.toString()).isEqualTo("1Blub5");
+        assertThat(stringBuilderIterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void textRemoveIfAndRetainIf() {
+        assertThat(Text.removeIf(new StringBuilder("\tBl\u0000ub\n"), Character::isISOControl).toString())
+            .isEqualTo("Blub");
+        assertThat(Text.retainIf(new StringBuilder("B1l2u3b"), Character::isLetter).toString()).isEqualTo("Blub");
+        assertThat(Text.removeIf(new StringBuilder(), Character::isLetter).toString()).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jlib.text.CharSequenceNumbers.parseDouble;
+import static org.jlib.text.CharSequenceNumbers.parseInt;
+import static org.jlib.text.CharSequenceNumbers.parseLong;
+
+public class CharSequenceNumbersTest {
+
+    private static final String[] INTEGERS = {
+        "0", "7", "-7", "+7", "0042", "2147483647", "-2147483648", "9223372036854775807", "-9223372036854775808"
+    };
+
+    private static final String[] NO_INTEGERS = {
+        "", "-", "+", "1a", " 1", "1.0", "--1", "9223372036854775808", "-9223372036854775809"
+    };
+
+    private static final String[] DOUBLES = {
+        "0", "-0", "0.0", "-0.0", "1", "1.", ".5", "-.5", "3.14159", "123456789012345", "1234567890123456789",
+        "0.1", "0.3", "1e10", "1E-10", "-2.5e+3", "1e22", "1e23", "1e-22", "1e-23", "4.9e-324", "1.7976931348623157e308",
+        "NaN", "-Infinity", "0x1p3", "1d", " 2.5 ", "0.000000000000000000000000001"
+    };
+
+    @Test
+    public void parseIntLikeInteger() {
+        for (final String integer : INTEGERS)
+            assertParsesLike(integer, () -> Integer.parseInt(integer),
+                             () -> parseInt("[" + integer + "]", 1, integer.length() + 1));
+
+        for (final String noInteger : NO_INTEGERS)
+            assertThatThrownBy(() -> parseInt("[" + noInteger + "]", 1, noInteger.length() + 1))
+                .as(noInteger)
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void parseLongLikeLong() {
+        for (final String integer : INTEGERS)
+            assertThat(parseLong("[" + integer + "]", 1, integer.length() + 1)).as(integer)
+                                                                                 .isEqualTo(Long.parseLong(integer));
+
+        for (final String noInteger : NO_INTEGERS)
+            assertThatThrownBy(() -> parseLong("[" + noInteger + "]", 1, noInteger.length() + 1))
+                .as(noInteger)
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void parseDoubleLikeDouble() {
+        for (final String number : DOUBLES)
+            assertThat(Double.doubleToRawLongBits(parseDouble(new StringBuilder("[" + number + "]"), 1,
+                                                              number.length() + 1)))
+                .as(number)
+                .isEqualTo(Double.doubleToRawLongBits(Double.parseDouble(number)));
+    }
+
+    @Test
+    public void parseDoubleNoDouble() {
+        assertThatThrownBy(() -> parseDouble("[1.2.3]", 1, 6))
+            .isInstanceOf(NumberFormatException.class);
+    }
+
+    private static void assertParsesLike(final String integer, final IntSupplier expected,
+                                         final IntSupplier actual) {
+        boolean expectedFailure = false;
+        int expectedValue = 0;
+        try {
+            expectedValue = expected.getAsInt();
+        }
+        catch (final NumberFormatException exception) {
+            expectedFailure = true;
+        }
+
+        if (expectedFailure)
+            assertThatThrownBy(actual::getAsInt).as(integer).isInstanceOf(NumberFormatException.class);
+        else
+            assertThat(actual.getAsInt()).as(integer).isEqualTo(expectedValue);
+    }
+}
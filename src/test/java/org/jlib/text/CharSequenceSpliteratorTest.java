@@ -0,0 +1,82 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.Spliterator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CharSequenceSpliteratorTest {
+
+    @Test
+    public void sizedAndSplitsEvenly() {
+
+        // given
+        final CharSequenceSpliterator spliterator = new CharSequenceSpliterator("abcdefgh");
+
+        // when
+        final Spliterator.OfInt prefixSpliterator = spliterator.trySplit();
+
+        // then
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(prefixSpliterator.estimateSize()).isEqualTo(4);
+        assertThat(spliterator.estimateSize()).isEqualTo(4);
+        assertThat(prefixSpliterator.tryAdvance((int character) -> assertThat(character).isEqualTo('a'))).isTrue();
+        assertThat(spliterator.tryAdvance((int character) -> assertThat(character).isEqualTo('e'))).isTrue();
+    }
+
+    @Test
+    public void parallelStreamKeepsOrder() {
+
+        // given
+        final StringBuilder characters = new StringBuilder();
+        for (int characterIndex = 0; characterIndex < 10_000; characterIndex++)
+            characters.append((char) ('a' + characterIndex % 26));
+
+        // when
+        final String collected = Text.charStream(characters)
+                                     .parallel()
+                                     .collect(StringBuilder::new,
+                                              (stringBuilder, character) -> stringBuilder.append((char) character),
+                                              StringBuilder::append)
+                                     .toString();
+
+        // then
+        assertThat(collected).isEqualTo(characters.toString());
+    }
+
+    @Test
+    public void subsequence() {
+        assertThat(Text.charStream("Blubber", 1, 4).count()).isEqualTo(4);
+        assertThat(Text.charStream("Blubber", 4).sum()).isEqualTo('b' + 'e' + 'r');
+    }
+
+    @Test
+    public void lastCharacterIndexOutOfBounds() {
+        assertThatThrownBy(() -> new CharSequenceSpliterator("Blub", 1, 4))
+            .isInstanceOf(CharSequenceIndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CharSequenceViewTest {
+
+    @Test
+    public void viewsRange() {
+
+        // given
+        final StringBuilder stringBuilder = new StringBuilder("Blubber");
+
+        // when
+        final CharSequenceView view = new CharSequenceView(stringBuilder, 1, 5);
+
+        // then
+        assertThat(view.length()).isEqualTo(4);
+        assertThat(view.charAt(0)).isEqualTo('l');
+        assertThat(view.toString()).isEqualTo("lubb");
+        assertThat(view.subSequence(1, 3).toString()).isEqualTo("ub");
+    }
+
+    @Test
+    public void equalsAndHashCodeByContent() {
+
+        // given
+        final CharSequenceView view = new CharSequenceView("BlaBlub", 3, 7);
+        final CharSequenceView otherView = new CharSequenceView(new StringBuilder("Blubber"), 0, 4);
+
+        // then
+        assertThat(view).isEqualTo(otherView);
+        assertThat(view.hashCode()).isEqualTo("Blub".hashCode());
+        assertThat(view.contentEquals("Blub")).isTrue();
+        assertThat(view.contentEquals("Blubb")).isFalse();
+    }
+
+    @Test
+    public void emptyView() {
+        assertThat(new CharSequenceView("Blub", 2, 2).toString()).isEmpty();
+    }
+
+    @Test
+    public void endIndexOutOfBounds() {
+        assertThatThrownBy(() -> new CharSequenceView("Blub", 2, 5))
+            .isInstanceOf(CharSequenceIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void characterIndexOutOfBounds() {
+        assertThatThrownBy(() -> new CharSequenceView("Blub", 1, 3).charAt(2))
+            .isInstanceOf(CharSequenceIndexOutOfBoundsException.class);
+    }
+}
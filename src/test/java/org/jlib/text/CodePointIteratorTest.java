@@ -0,0 +1,83 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CodePointIteratorTest {
+
+    /** MATHEMATICAL BOLD CAPITAL A, a supplementary character */
+    private static final String BOLD_A = new String(Character.toChars(0x1D400));
+
+    @Test
+    public void asciiCharacters() {
+        assertThat(codePoints("Bla")).containsExactly((int) 'B', (int) 'l', (int) 'a');
+    }
+
+    @Test
+    public void surrogatePairIsSingleCodePoint() {
+        assertThat(codePoints("x" + BOLD_A + "y")).containsExactly((int) 'x', 0x1D400, (int) 'y');
+    }
+
+    @Test
+    public void unpairedSurrogateIsReturnedAsIs() {
+        assertThat(codePoints("x" + BOLD_A.charAt(0))).containsExactly((int) 'x', (int) BOLD_A.charAt(0));
+    }
+
+    @Test
+    public void surrogatePairCutBySubsequenceIsNotDecoded() {
+
+        // given
+        final List<Integer> codePoints = new ArrayList<>();
+
+        // when
+        Text.asCodePointIterable("x" + BOLD_A, 0, 1).forEachCodePoint(codePoints::add);
+
+        // then
+        assertThat(codePoints).containsExactly((int) 'x', (int) BOLD_A.charAt(0));
+    }
+
+    @Test
+    public void nextIntMatchesForEachRemaining() {
+
+        // given
+        final CodePointIterator codePointIterator = new CodePointIterator(BOLD_A + "a" + BOLD_A);
+
+        // then
+        assertThat(codePointIterator.nextInt()).isEqualTo(0x1D400);
+        assertThat(codePointIterator.nextInt()).isEqualTo('a');
+        assertThat(codePointIterator.nextInt()).isEqualTo(0x1D400);
+        assertThat(codePointIterator.hasNext()).isFalse();
+    }
+
+    private static List<Integer> codePoints(final CharSequence charSequence) {
+        final List<Integer> codePoints = new ArrayList<>();
+        Text.asCodePointIterable(charSequence).forEachCodePoint(codePoints::add);
+        return codePoints;
+    }
+}
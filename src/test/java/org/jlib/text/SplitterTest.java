@@ -0,0 +1,259 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jlib.text.FieldConsumer.ofDouble;
+import static org.jlib.text.FieldConsumer.ofInt;
+import static org.jlib.text.FieldConsumer.ofLong;
+import static org.jlib.text.FieldConsumer.ofString;
+
+public class SplitterTest {
+
+    private static final String[] COMPOSITE_STRINGS = {
+        "", "-", "--", "a", "a-b", "-a-b", "a-b-", "a--b", "a-b--", "--a", "ab-cd-ef", "a-.b", "a.-b-."
+    };
+
+    private static final String[] ZERO_WIDTH_COMPOSITE_STRINGS = {
+        "", "a", "b", "x", "ab", "ba", "bxb", "xbx", "abc", "aab", "bxxb", "abab", "xx", "a-b", "-ab-", "bbxbb"
+    };
+
+    @Test
+    public void characterSplitterSplitsLikeStringSplit() {
+        assertSplitsLikeStringSplit(Splitter.on('-'), "-");
+    }
+
+    @Test
+    public void literalSplitterSplitsLikeStringSplit() {
+        assertSplitsLikeStringSplit(Splitter.on("-."), "-\\.");
+        assertSplitsLikeStringSplit(Splitter.on("--"), "--");
+    }
+
+    @Test
+    public void characterSetSplitterSplitsLikeStringSplit() {
+        assertSplitsLikeStringSplit(Splitter.onAnyOf('-', '.'), "[-.]");
+    }
+
+    @Test
+    public void patternSplitterSplitsLikeStringSplit() {
+        assertSplitsLikeStringSplit(Splitter.on(Pattern.compile("-+")), "-+");
+        assertSplitsLikeStringSplit(Splitter.on(Pattern.compile("")), "");
+    }
+
+    @Test
+    public void regexSplitterSplitsLikeStringSplit() {
+        assertSplitsLikeStringSplit(Splitter.onRegex("\\."), "\\.");
+        assertSplitsLikeStringSplit(Splitter.onRegex("[-.]"), "[-.]");
+    }
+
+    @Test
+    public void zeroWidthMatchesSplitLikeStringSplit() {
+        for (final String regex : new String[] { "x*", "a|", "b?", "", "(?=b)", "(?<=a)", "\\b", "a*|-", "x|b*", "-?" })
+            assertSplitsLikeStringSplit(Splitter.onRegex(regex), regex, ZERO_WIDTH_COMPOSITE_STRINGS);
+    }
+
+    @Test
+    public void alternationsSplitLikeStringSplit() {
+        for (final String regex : new String[] { "-|\\.", "a|ab", "ab|a", "-|--", "b|x", "(-)|(\\.)" }) {
+            assertSplitsLikeStringSplit(Splitter.onRegex(regex), regex);
+            assertSplitsLikeStringSplit(Splitter.onRegex(regex), regex, ZERO_WIDTH_COMPOSITE_STRINGS);
+        }
+    }
+
+    @Test
+    public void nestedSplitWithSameRegex() {
+        // given
+        final List<String> elements = new ArrayList<>();
+        final Consumer<String> nestedSplitter =
+            element -> Text.splitInto("p , q", "\\s*,\\s*", elements::add, elements::add);
+
+        // when
+        Text.splitInto("a , b", "\\s*,\\s*", nestedSplitter, elements::add);
+
+        // then
+        assertThat(elements).containsExactly("p", "q", "b");
+    }
+
+    @Test
+    public void nestedSplitWithSameZeroWidthSplitter() {
+        // given
+        final Splitter splitter = Splitter.onRegex("x*");
+        final List<String> elements = new ArrayList<>();
+        final Consumer<String> nestedSplitter = element -> {
+            elements.add(element);
+            splitter.forEachElementRange("bxb", (startIndex, endIndex) ->
+                elements.add("bxb".substring(startIndex, endIndex)));
+        };
+
+        // when
+        splitter.splitInto("bxb", nestedSplitter, nestedSplitter, nestedSplitter);
+
+        // then
+        assertThat(elements).containsExactly("b", "b", "", "b",
+                                             "", "b", "", "b",
+                                             "b", "b", "", "b");
+    }
+
+    @Test
+    public void textSplitIntoSplitsZeroWidthMatchesLikeStringSplit() {
+        // given
+        final List<String> elements = new ArrayList<>();
+
+        // when
+        Text.splitInto("bxb", "x*", elements::add, elements::add, elements::add);
+
+        // then
+        assertThat(elements).containsExactly("b", "", "b");
+    }
+
+    @Test
+    public void literalDelimiterIsNoRegex() {
+
+        // given
+        final List<String> elements = new ArrayList<>();
+
+        // when
+        Splitter.on(".").splitInto("a.b", elements::add, elements::add);
+
+        // then
+        assertThat(elements).containsExactly("a", "b");
+    }
+
+    @Test
+    public void stringBuilder() {
+
+        // given
+        final List<String> elements = new ArrayList<>();
+
+        // when
+        Splitter.on("::").splitInto(new StringBuilder("a::b::c"), elements::add, elements::add, elements::add);
+
+        // then
+        assertThat(elements).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void elementRanges() {
+
+        // given
+        final StringBuilder compositeStringBuilder = new StringBuilder("ab;;cde;;");
+        final List<String> elementRanges = new ArrayList<>();
+
+        // when
+        final int elementCount = Splitter.on(';').forEachElementRange(
+            compositeStringBuilder, (startIndex, endIndex) -> elementRanges.add(startIndex + "-" + endIndex));
+
+        // then
+        assertThat(elementCount).isEqualTo(3);
+        assertThat(elementRanges).containsExactly("0-2", "3-3", "4-7");
+    }
+
+    @Test
+    public void typedFields() {
+
+        // given
+        class Record {
+            String name;
+            int count;
+            long id;
+            double price;
+        }
+        final Record record = new Record();
+
+        // when
+        Splitter.on(';').splitIntoFields("item;42;9000000000;-2.5",
+                                         ofString(name -> record.name = name),
+                                         ofInt(count -> record.count = count),
+                                         ofLong(id -> record.id = id),
+                                         ofDouble(price -> record.price = price));
+
+        // then
+        assertThat(record.name).isEqualTo("item");
+        assertThat(record.count).isEqualTo(42);
+        assertThat(record.id).isEqualTo(9000000000L);
+        assertThat(record.price).isEqualTo(- 2.5);
+    }
+
+    @Test
+    public void tooManyFieldConsumers() {
+        assertThatThrownBy(() -> Splitter.on(';').splitIntoFields("1", ofInt(value -> {}), ofInt(value -> {})))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Too many elementConsumers. #elementConsumers=2. #elements=1.");
+    }
+
+    @Test
+    public void tooFewConsumersBeforeFirstConsumerCall() {
+
+        // given
+        final List<String> elements = new ArrayList<>();
+
+        // when/then
+        assertThatThrownBy(() -> Splitter.on('-').splitInto("a-b", elements::add))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Too few elementConsumers. #elementConsumers=1. #elements=2.");
+        assertThat(elements).isEmpty();
+    }
+
+    @Test
+    public void emptyDelimiter() {
+        assertThatThrownBy(() -> Splitter.on(""))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertSplitsLikeStringSplit(final Splitter splitter, final String regex) {
+        assertSplitsLikeStringSplit(splitter, regex, COMPOSITE_STRINGS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertSplitsLikeStringSplit(final Splitter splitter, final String regex,
+                                                    final String... compositeStrings) {
+        for (final String compositeString : compositeStrings) {
+            final String[] expectedElements = compositeString.split(regex);
+            final List<String> elements = new ArrayList<>();
+            final Consumer<String>[] elementConsumers = (Consumer<String>[]) new Consumer<?>[expectedElements.length];
+            for (int elementIndex = 0; elementIndex < elementConsumers.length; elementIndex++)
+                elementConsumers[elementIndex] = elements::add;
+
+            assertThat(splitter.countElements(compositeString)).as(regex + " on " + compositeString)
+                                                                .isEqualTo(expectedElements.length);
+
+            splitter.splitInto(compositeString, elementConsumers);
+
+            assertThat(elements).as(regex + " on " + compositeString).containsExactly(expectedElements);
+
+            final List<String> elementRanges = new ArrayList<>();
+            splitter.forEachElementRange(compositeString, (startIndex, endIndex) ->
+                elementRanges.add(compositeString.substring(startIndex, endIndex)));
+
+            assertThat(elementRanges).as(regex + " on " + compositeString).containsExactly(expectedElements);
+        }
+    }
+}
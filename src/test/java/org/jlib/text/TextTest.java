@@ -25,7 +25,12 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.jlib.text.Text.EMPTY;
+import static org.jlib.text.Text.removeAll;
+import static org.jlib.text.Text.removeAllLiteral;
 import static org.jlib.text.Text.removeFirst;
+import static org.jlib.text.Text.removeFirstLiteral;
+import static org.jlib.text.Text.removeLast;
+import static org.jlib.text.Text.removeLastLiteral;
 
 public class TextTest {
 
@@ -63,4 +68,63 @@ public class TextTest {
     public void testRemoveOnceMiddleFromDouble() {
         assertThat(removeFirst("BlaBlubBlub", "Blub")).isEqualTo("BlaBlub");
     }
+
+    @Test
+    public void testRemoveFirstRegex() {
+        assertThat(removeFirst("Bla42Blub7", "\\d+")).isEqualTo("BlaBlub7");
+    }
+
+    @Test
+    public void testRemoveLastRegex() {
+        assertThat(removeLast("Bla42Blub7Blubber", "\\d+")).isEqualTo("Bla42BlubBlubber");
+    }
+
+    @Test
+    public void testRemoveAllRegex() {
+        assertThat(removeAll("Bla42Blub7Blubber", "\\d+")).isEqualTo("BlaBlubBlubber");
+    }
+
+    @Test
+    public void testRemoveFirstLiteralIsNoRegex() {
+        assertThat(removeFirstLiteral("a.b.c", ".")).isEqualTo("ab.c");
+    }
+
+    @Test
+    public void testRemoveLastLiteral() {
+        assertThat(removeLastLiteral("BlaBlubBla", "Bla")).isEqualTo("BlaBlub");
+    }
+
+    @Test
+    public void testRemoveAllLiteral() {
+        assertThat(removeAllLiteral("BlaBlubBlaBla", "Bla")).isEqualTo("Blub");
+        assertThat(removeAllLiteral("Blubber", EMPTY)).isEqualTo("Blubber");
+    }
+
+    @Test
+    public void testRemoveFromStringBuilderInPlace() {
+
+        // given
+        final StringBuilder stringBuilder = new StringBuilder("xBla1Blub22xBla333x");
+
+        // when
+        removeAllLiteral(stringBuilder, "x");
+        removeFirstLiteral(stringBuilder, "Bla");
+        removeLastLiteral(stringBuilder, "Bla");
+        removeLast(stringBuilder, "\\d");
+        removeAll(stringBuilder, "\\d+");
+
+        // then
+        assertThat(stringBuilder.toString()).isEqualTo("Blub");
+    }
+
+    @Test
+    public void testRemoveAllRegexFromStringBuilderWithLookBehind() {
+        assertThat(removeAll(new StringBuilder("aab aab"), "(?<=a)a").toString()).isEqualTo("ab ab");
+    }
+
+    @Test
+    public void testSplitterCachedPerRegex() {
+        assertThat(Text.splitter("x*")).isSameAs(Text.splitter("x*"));
+        assertThat(Text.splitter("x+")).isNotSameAs(Text.splitter("x*"));
+    }
 }
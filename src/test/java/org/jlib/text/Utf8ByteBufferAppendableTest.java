@@ -0,0 +1,111 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the {@link Utf8ByteBufferAppendable}.
+ *
+ * @author Igor Akkerman
+ */
+public class Utf8ByteBufferAppendableTest {
+
+    private static final String[] TEXTS = { "", "plain ascii", "Grüße", "€ 100", "emoji 😀!",
+                                            "unpaired \ud83d x \ude00 y", "trailing \ud83d" };
+
+    @Test
+    public void sameBytesAsStringGetBytes() {
+        for (final String text : TEXTS) {
+            assertEncodedAsGetBytes(text, ByteBuffer.allocate(64));
+            assertEncodedAsGetBytes(text, ByteBuffer.allocateDirect(64));
+        }
+    }
+
+    @Test
+    public void overflowLeavesPositionUnchanged() {
+
+        // given
+        final ByteBuffer target = ByteBuffer.allocate(8);
+        target.put((byte) 'x');
+
+        // when
+        final boolean encoded = Utf8ByteBufferAppendable.encode("€€€", target);
+
+        // then
+        assertThat(encoded).isFalse();
+        assertThat(target.position()).isEqualTo(1);
+    }
+
+    @Test
+    public void exactFit() {
+
+        // given
+        final ByteBuffer target = ByteBuffer.allocate(5);
+
+        // when
+        final boolean encoded = Utf8ByteBufferAppendable.encode("a€b", target);
+
+        // then
+        assertThat(encoded).isTrue();
+        assertThat(target.position()).isEqualTo(5);
+    }
+
+    @Test
+    public void surrogatePairSplitAcrossAppends() {
+
+        // given
+        final ByteBuffer target = ByteBuffer.allocate(16);
+        final Utf8ByteBufferAppendable appendable = new Utf8ByteBufferAppendable(target);
+
+        // when
+        appendable.append("a\ud83d");
+        appendable.append('\ude00');
+        appendable.finish();
+
+        // then
+        assertThat(bytes(target)).isEqualTo("a😀".getBytes(UTF_8));
+    }
+
+    private static void assertEncodedAsGetBytes(final String text, final ByteBuffer target) {
+
+        // when
+        final boolean encoded = Utf8ByteBufferAppendable.encode(new StringBuilder(text), target);
+
+        // then
+        assertThat(encoded).isTrue();
+        assertThat(bytes(target)).as(text).isEqualTo(text.getBytes(UTF_8));
+    }
+
+    private static byte[] bytes(final ByteBuffer buffer) {
+        buffer.flip();
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Test case for the {@link LatencyHistogram}.
+ *
+ * @author Igor Akkerman
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void emptyHistogram() {
+
+        // given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // then
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getValueAtPercentile(99)).isZero();
+        assertThat(histogram.getMean()).isZero();
+    }
+
+    @Test
+    public void smallValuesExact() {
+
+        // given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (long value = 1; value <= 10; value++)
+            histogram.record(value);
+
+        // then
+        assertThat(histogram.getCount()).isEqualTo(10);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(5);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10);
+        assertThat(histogram.getMean()).isEqualTo(5.5);
+    }
+
+    @Test
+    public void largeValuesWithinPrecision() {
+
+        // given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // when
+        for (long value = 1; value <= 100_000; value++)
+            histogram.record(value * 1000);
+
+        // then
+        assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(50_000_000, within(50_000_000 * 0.125));
+        assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(99_000_000, within(99_000_000 * 0.125));
+        assertThat(histogram.getMaximum()).isEqualTo(100_000_000);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100_000_000);
+    }
+
+    @Test
+    public void reset() {
+
+        // given
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+
+        // when
+        histogram.reset();
+
+        // then
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getMaximum()).isZero();
+    }
+}
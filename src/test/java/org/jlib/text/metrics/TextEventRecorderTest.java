@@ -0,0 +1,94 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jlib.text.templateengine.EventRecordingTemplateEngine;
+import org.jlib.text.templateengine.PlaceholderTemplateEngine;
+import org.jlib.text.transformer.EventRecordingStringTransformer;
+import org.jlib.text.transformer.LeftAligningStringTransformer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the {@link TextEventRecorder} and the event recording decorators.
+ *
+ * @author Igor Akkerman
+ */
+public class TextEventRecorderTest {
+
+    private final List<String> recordedEvents = new ArrayList<>();
+
+    private final TextEventRecorder eventRecorder = new TextEventRecorder() {
+
+        @Override
+        public TextEvent beginTemplateRendering(final String name, final CharSequence template,
+                                                final int argumentCount) {
+            return outputLength -> recordedEvents.add(name + ":" + template + ":" + argumentCount + ":" + outputLength);
+        }
+
+        @Override
+        public TextEvent beginStringTransformation(final String name, final int inputLength) {
+            return outputLength -> recordedEvents.add(name + ":" + inputLength + ":" + outputLength);
+        }
+    };
+
+    @Test
+    public void templateRenderingRecorded() {
+
+        // given
+        final EventRecordingTemplateEngine<Object> engine =
+            new EventRecordingTemplateEngine<>(PlaceholderTemplateEngine.INSTANCE, "greeting", eventRecorder);
+
+        // when
+        final String text = engine.applyArguments("hello {0}", "world");
+
+        // then
+        assertThat(text).isEqualTo("hello world");
+        assertThat(recordedEvents).containsExactly("greeting:hello {0}:1:11");
+    }
+
+    @Test
+    public void stringTransformationRecorded() {
+
+        // given
+        final EventRecordingStringTransformer transformer =
+            new EventRecordingStringTransformer(new LeftAligningStringTransformer(6, '.'), "align", eventRecorder);
+
+        // when
+        final String result = transformer.transform("ab");
+
+        // then
+        assertThat(result).isEqualTo("ab....");
+        assertThat(recordedEvents).containsExactly("align:2:6");
+    }
+
+    @Test
+    public void flightRecorderNoneWithoutFlightRecorderClasses() {
+        // the JDK Flight Recorder classes are only in the multi-release section of the jar, tested by jfrTest
+        assertThat(TextEventRecorder.flightRecorder()).isSameAs(TextEventRecorder.NONE);
+    }
+}
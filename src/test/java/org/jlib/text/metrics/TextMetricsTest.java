@@ -0,0 +1,192 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.metrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+
+import org.jlib.text.templateengine.InstrumentedTemplateEngine;
+import org.jlib.text.templateengine.PlaceholderTemplateEngine;
+import org.jlib.text.transformer.InstrumentedStringTransformer;
+import org.jlib.text.transformer.RightAligningStringTransformer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the {@link TextMetrics} and the instrumenting decorators.
+ *
+ * @author Igor Akkerman
+ */
+public class TextMetricsTest {
+
+    @Test
+    public void transformerCallsRecorded() {
+
+        // given
+        final TextMetrics metrics = new TextMetrics("rightAlign");
+        final InstrumentedStringTransformer transformer =
+            new InstrumentedStringTransformer(new RightAligningStringTransformer(8, ' '), metrics);
+
+        // when
+        final String result = transformer.transform("abc");
+        transformer.transform("abcd");
+
+        // then
+        assertThat(result).isEqualTo("     abc");
+        assertThat(metrics.getCallCount()).isEqualTo(2);
+        assertThat(metrics.getTotalInputLength()).isEqualTo(7);
+        assertThat(metrics.getTotalOutputLength()).isEqualTo(16);
+    }
+
+    @Test
+    public void disabledMetricsRecordNothing() {
+
+        // given
+        final TextMetrics metrics = new TextMetrics("disabled");
+        metrics.setEnabled(false);
+        final InstrumentedTemplateEngine<Object> engine =
+            new InstrumentedTemplateEngine<>(PlaceholderTemplateEngine.INSTANCE, metrics);
+
+        // when
+        final String text = engine.applyArguments("{0}", "value");
+
+        // then
+        assertThat(text).isEqualTo("value");
+        assertThat(metrics.getCallCount()).isZero();
+    }
+
+    @Test
+    public void allocatedBytesTracked() {
+
+        // given
+        final TextMetrics metrics = new TextMetrics("allocating");
+        metrics.setAllocationTrackingEnabled(true);
+        final InstrumentedTemplateEngine<Object> engine =
+            new InstrumentedTemplateEngine<>(PlaceholderTemplateEngine.INSTANCE, metrics);
+
+        // when
+        engine.applyArguments("{0} {1}", "allocating", 42);
+
+        // then
+        assertThat(metrics.getCallCount()).isEqualTo(1);
+        assertThat(metrics.getTotalInputLength()).isEqualTo(7);
+        assertThat(metrics.getTotalOutputLength()).isEqualTo(13);
+        if (metrics.currentThreadAllocatedBytes() != - 1)
+            assertThat(metrics.getTotalAllocatedBytes()).isPositive();
+    }
+
+    @Test
+    public void registeredAsMBean()
+        throws Exception {
+
+        // given
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final TextMetrics metrics = TextMetrics.register("registered \"template\"");
+
+        try {
+            // when
+            new InstrumentedTemplateEngine<>(PlaceholderTemplateEngine.INSTANCE, metrics).applyArguments("{0}", 1);
+
+            // then
+            assertThat(server.isRegistered(metrics.getObjectName())).isTrue();
+            assertThat(server.getAttribute(metrics.getObjectName(), "CallCount")).isEqualTo(1L);
+        }
+        finally {
+            metrics.unregister();
+        }
+
+        assertThat(server.isRegistered(metrics.getObjectName())).isFalse();
+    }
+
+    @Test
+    public void allocationUntrackedWithoutComSunManagement()
+        throws ReflectiveOperationException {
+
+        // given
+        final ClassLoader classLoader = new ComSunManagementHidingClassLoader(TextMetrics.class.getClassLoader());
+        final Class<?> textMetricsClass = Class.forName(TextMetrics.class.getName(), true, classLoader);
+        final Object metrics = textMetricsClass.getConstructor(String.class).newInstance("hidden");
+        textMetricsClass.getMethod("setAllocationTrackingEnabled", boolean.class).invoke(metrics, true);
+
+        // when
+        final Object allocatedBytes = textMetricsClass.getMethod("currentThreadAllocatedBytes").invoke(metrics);
+
+        // then
+        assertThat(allocatedBytes).isEqualTo(- 1L);
+    }
+
+    /**
+     * {@link ClassLoader} defining the classes of the metrics package itself, as in a runtime image without the
+     * {@code jdk.management} module, where the {@code com.sun.management} classes are missing.
+     */
+    private static final class ComSunManagementHidingClassLoader
+        extends ClassLoader {
+
+        private static final String METRICS_PACKAGE_PREFIX = TextMetrics.class.getPackage().getName() + ".";
+
+        private ComSunManagementHidingClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve)
+            throws ClassNotFoundException {
+            if (name.startsWith("com.sun.management."))
+                throw new ClassNotFoundException(name);
+
+            if (! name.startsWith(METRICS_PACKAGE_PREFIX))
+                return super.loadClass(name, resolve);
+
+            synchronized (getClassLoadingLock(name)) {
+                final Class<?> loadedClass = findLoadedClass(name);
+                if (loadedClass != null)
+                    return loadedClass;
+
+                final byte[] classBytes = readClassBytes(name);
+                return defineClass(name, classBytes, 0, classBytes.length);
+            }
+        }
+
+        private byte[] readClassBytes(final String name)
+            throws ClassNotFoundException {
+            try (final InputStream classStream = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (classStream == null)
+                    throw new ClassNotFoundException(name);
+
+                final ByteArrayOutputStream classBytes = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[4096];
+                for (int readCount; (readCount = classStream.read(buffer)) != - 1; )
+                    classBytes.write(buffer, 0, readCount);
+
+                return classBytes.toByteArray();
+            }
+            catch (final IOException exception) {
+                throw new ClassNotFoundException(name, exception);
+            }
+        }
+    }
+}
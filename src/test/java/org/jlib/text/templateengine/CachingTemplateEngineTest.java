@@ -0,0 +1,143 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the {@link CachingTemplateEngine}.
+ *
+ * @author Igor Akkerman
+ */
+public class CachingTemplateEngineTest {
+
+    @Test
+    public void repeatedRequestAnsweredFromCache() {
+
+        // given
+        final CachingTemplateEngine<Object> engine = new CachingTemplateEngine<>(PlaceholderTemplateEngine.INSTANCE, 16);
+
+        // when
+        final String firstText = engine.applyArguments("{0} of {1}", TimeUnit.SECONDS, 3);
+        final String secondText = engine.applyArguments("{0} of {1}", TimeUnit.SECONDS, 3);
+
+        // then
+        assertThat(firstText).isEqualTo("SECONDS of 3");
+        assertThat(secondText).isSameAs(firstText);
+        assertThat(engine.getMissCount()).isEqualTo(1);
+        assertThat(engine.getHitCount()).isEqualTo(1);
+        assertThat(engine.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void mutableOrLongArgumentsBypassCache() {
+
+        // given
+        final CachingTemplateEngine<Object> engine = new CachingTemplateEngine<>(PlaceholderTemplateEngine.INSTANCE, 16);
+        final StringBuilder mutableArgument = new StringBuilder("before");
+        final StringBuilder longArgument = new StringBuilder();
+        for (int characterIndex = 0; characterIndex <= CachingTemplateEngine.MAXIMUM_CACHEABLE_STRING_LENGTH;
+             characterIndex++)
+            longArgument.append('x');
+
+        // when
+        engine.applyArguments("{0}", mutableArgument);
+        mutableArgument.setLength(0);
+        mutableArgument.append("after");
+        final String text = engine.applyArguments("{0}", mutableArgument);
+        engine.applyArguments("{0}", longArgument.toString());
+        engine.applyArguments(new StringBuilder("{0}"), 1);
+
+        // then
+        assertThat(text).isEqualTo("after");
+        assertThat(engine.getBypassCount()).isEqualTo(4);
+        assertThat(engine.size()).isZero();
+    }
+
+    @Test
+    public void floatingPointArgumentsBypassCache() {
+
+        // given
+        final CachingTemplateEngine<Object> engine = new CachingTemplateEngine<>(PlaceholderTemplateEngine.INSTANCE, 16);
+
+        // when
+        engine.applyArguments("{0}", 1.5);
+        engine.applyArguments("{0}", 1.5f);
+
+        // then
+        assertThat(engine.getBypassCount()).isEqualTo(2);
+        assertThat(engine.size()).isZero();
+    }
+
+    @Test
+    public void textsCachedPerDefaultFormatLocale() {
+
+        // given
+        final CachingTemplateEngine<Object> engine = new CachingTemplateEngine<>(PrintfTemplateEngine.INSTANCE, 16);
+        final Locale defaultFormatLocale = Locale.getDefault(Locale.Category.FORMAT);
+
+        try {
+            // when
+            Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+            final String usText = engine.applyArguments("%,d", 1234567);
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            final String germanText = engine.applyArguments("%,d", 1234567);
+
+            // then
+            assertThat(usText).isEqualTo("1,234,567");
+            assertThat(germanText).isEqualTo("1.234.567");
+            assertThat(engine.getMissCount()).isEqualTo(2);
+        }
+        finally {
+            Locale.setDefault(Locale.Category.FORMAT, defaultFormatLocale);
+        }
+    }
+
+    @Test
+    public void sizeBoundedAndFrequentTextsRetained() {
+
+        // given
+        final CachingTemplateEngine<Object> engine = new CachingTemplateEngine<>(PlaceholderTemplateEngine.INSTANCE, 8);
+
+        // when
+        for (int roundIndex = 0; roundIndex < 50; roundIndex++) {
+            for (int frequentIndex = 0; frequentIndex < 8; frequentIndex++)
+                engine.applyArguments("frequent {0}", frequentIndex);
+            for (int rareIndex = 0; rareIndex < 20; rareIndex++)
+                engine.applyArguments("rare {0}", roundIndex * 20 + rareIndex);
+        }
+
+        final long hitCountBefore = engine.getHitCount();
+        for (int frequentIndex = 0; frequentIndex < 8; frequentIndex++)
+            engine.applyArguments("frequent {0}", frequentIndex);
+
+        // then
+        assertThat(engine.size()).isLessThanOrEqualTo(8);
+        assertThat(engine.getHitCount() - hitCountBefore).isEqualTo(8);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the {@link DeferringTemplateEngine} and the {@link DeferredText}.
+ *
+ * @author Igor Akkerman
+ */
+public class DeferringTemplateEngineTest {
+
+    private final AtomicInteger renderCount = new AtomicInteger();
+
+    private final DeferringTemplateEngine<Object> engine = new DeferringTemplateEngine<>((template, arguments) -> {
+        renderCount.incrementAndGet();
+        return PlaceholderTemplateEngine.INSTANCE.applyArguments(template, arguments);
+    });
+
+    @Test
+    public void notRenderedUntilAccessed() {
+
+        // when
+        final DeferredText<Object> text = engine.applyArgumentsDeferred("{0}-{1}", "a", 1);
+
+        // then
+        assertThat(text.isRendered()).isFalse();
+        assertThat(renderCount).hasValue(0);
+    }
+
+    @Test
+    public void renderedOnceOnAccess() {
+
+        // given
+        final DeferredText<Object> text = engine.applyArgumentsDeferred("{0}-{1}", "a", 1);
+
+        // when
+        final int length = text.length();
+        final char firstCharacter = text.charAt(0);
+        final String string = text.toString();
+
+        // then
+        assertThat(length).isEqualTo(3);
+        assertThat(firstCharacter).isEqualTo('a');
+        assertThat(string).isEqualTo("a-1");
+        assertThat(text.subSequence(1, 3).toString()).isEqualTo("-1");
+        assertThat(text.isRendered()).isTrue();
+        assertThat(renderCount).hasValue(1);
+    }
+
+    @Test
+    public void concurrentFirstAccessRendersOnce()
+        throws Exception {
+
+        // given
+        final DeferredText<Object> text = engine.applyArgumentsDeferred("{0}", "shared");
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<String>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int threadIndex = 0; threadIndex < 8; threadIndex++)
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return text.toString();
+                }));
+            start.countDown();
+
+            // then
+            for (final Future<String> result : results)
+                assertThat(result.get()).isEqualTo("shared");
+            assertThat(renderCount).hasValue(1);
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void applyArgumentsDelegates() {
+        assertThat(engine.applyArguments("{0}!", "eager")).isEqualTo("eager!");
+    }
+}
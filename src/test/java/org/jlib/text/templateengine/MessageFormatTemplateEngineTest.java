@@ -0,0 +1,127 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.StringWriter;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jlib.text.templateengine.MessageFormatTemplateEngine.MESSAGE_FORMAT_TEMPLATE_ENGINE;
+
+/**
+ * Test case for the {@link MessageFormatTemplateEngine}.
+ *
+ * @author Igor Akkerman
+ */
+public class MessageFormatTemplateEngineTest {
+
+    @Test
+    public void sameResultAsMessageFormat() {
+
+        // given
+        final String template = "{1} sent {0} message(s) to ''{2}''";
+        final Object[] arguments = { 3, "Igor", "jlib" };
+
+        // when
+        final String result = MESSAGE_FORMAT_TEMPLATE_ENGINE.applyArguments(template, arguments);
+
+        // then
+        assertThat(result).isEqualTo(MessageFormat.format(template, arguments));
+    }
+
+    @Test
+    public void localeApplied() {
+
+        // given
+        final String template = "{0,number,#,##0.0}";
+
+        // when
+        final String germanResult = MESSAGE_FORMAT_TEMPLATE_ENGINE.applyArguments(Locale.GERMANY, template, 1234.5);
+        final String usResult = MESSAGE_FORMAT_TEMPLATE_ENGINE.applyArguments(Locale.US, template, asList(1234.5));
+
+        // then
+        assertThat(germanResult).isEqualTo("1.234,5");
+        assertThat(usResult).isEqualTo("1,234.5");
+    }
+
+    @Test
+    public void sharedAcrossThreads()
+        throws Exception {
+
+        // given
+        final String template = "{0} of {1,number,integer}";
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int threadIndex = 0; threadIndex < 8; threadIndex++) {
+                final String name = "thread" + threadIndex;
+                final Callable<Boolean> task = () -> {
+                    for (int iteration = 0; iteration < 5_000; iteration++) {
+                        final String expected = name + " of " + String.format(Locale.US, "%,d", iteration);
+                        if (! MESSAGE_FORMAT_TEMPLATE_ENGINE.applyArguments(Locale.US, template, name, iteration)
+                                                            .equals(expected))
+                            return false;
+                    }
+                    return true;
+                };
+                results.add(executor.submit(task));
+            }
+
+            // then
+            for (final Future<Boolean> result : results)
+                assertThat(result.get()).isTrue();
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void applyArgumentsToStringBufferAndWriter()
+        throws Exception {
+
+        // given
+        final StringBuffer buffer = new StringBuffer(">");
+        final StringWriter writer = new StringWriter();
+
+        // when
+        MESSAGE_FORMAT_TEMPLATE_ENGINE.applyArgumentsTo(buffer, Locale.US, "{0}-{1}", "a", 1);
+        MESSAGE_FORMAT_TEMPLATE_ENGINE.applyArgumentsTo(writer, Locale.US, "{0}-{1}", "a", 1);
+
+        // then
+        assertThat(buffer.toString()).isEqualTo(">a-1");
+        assertThat(writer.toString()).isEqualTo("a-1");
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jlib.text.templateengine.PlaceholderTemplateEngine.PLACEHOLDER_TEMPLATE_ENGINE;
+
+/**
+ * Test case for the {@link PlaceholderTemplate} and the {@link PlaceholderTemplateEngine}.
+ *
+ * @author Igor Akkerman
+ */
+public class PlaceholderTemplateTest {
+
+    @Test
+    public void positionalPlaceholders() {
+        assertThat(PLACEHOLDER_TEMPLATE_ENGINE.applyArguments("{1} and {0}, {1} again", "a", 2))
+            .isEqualTo("2 and a, 2 again");
+    }
+
+    @Test
+    public void namedPlaceholdersFollowPositionalArguments() {
+
+        // given
+        final PlaceholderTemplate template = PlaceholderTemplate.compile("${user} has {0} messages, ${user}. ${folder}");
+
+        // when
+        final String result = template.applyArguments(3, "igor", "inbox");
+
+        // then
+        assertThat(template.getNames()).containsExactly("user", "folder");
+        assertThat(template.getArgumentIndex("folder")).isEqualTo(2);
+        assertThat(template.getArgumentIndex("unknown")).isEqualTo(- 1);
+        assertThat(result).isEqualTo("igor has 3 messages, igor. inbox");
+    }
+
+    @Test
+    public void namedArgumentsFromMap() {
+
+        // given
+        final Map<String, Object> namedArguments = new HashMap<>();
+        namedArguments.put("first.name", "Ada");
+        namedArguments.put("count", 7);
+
+        // when
+        final String result = PlaceholderTemplate.compile("{0} ${first.name}: ${count}")
+                                                 .applyArguments(namedArguments, "Hi");
+
+        // then
+        assertThat(result).isEqualTo("Hi Ada: 7");
+    }
+
+    @Test
+    public void invalidPlaceholdersAreLiteral() {
+        assertThat(PlaceholderTemplate.compile("{x} {} ${} $ {0 ${a b} {1}}").applyArguments("p", "q"))
+            .isEqualTo("{x} {} ${} $ {0 ${a b} q}");
+    }
+
+    @Test
+    public void maximumPositionalIndexAccepted() {
+        assertThat(PlaceholderTemplate.compile("{9999}").getArgumentCount()).isEqualTo(10000);
+        assertThat(PlaceholderTemplate.compile("{0000000000001}").getArgumentCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void tooHighPositionalIndexRejected() {
+        assertThatThrownBy(() -> PlaceholderTemplate.compile("{10000}")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PlaceholderTemplate.compile("a {999999999} b"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("999999999");
+        assertThatThrownBy(() -> PlaceholderTemplate.compile("{99999999999999999999}"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void literalPlaceholderPassedAsArgument() {
+        assertThat(PlaceholderTemplate.compile("{0} or {1}").applyArguments("{0}", "${name}"))
+            .isEqualTo("{0} or ${name}");
+    }
+
+    @Test
+    public void appendsToTarget() {
+
+        // given
+        final StringBuilder target = new StringBuilder(">");
+
+        // when
+        PlaceholderTemplate.compile("[{0}]").applyArgumentsTo(target, new StringBuilder("sb"));
+
+        // then
+        assertThat(target.toString()).isEqualTo(">[sb]");
+    }
+
+    @Test
+    public void tooFewArguments() {
+        assertThatThrownBy(() -> PlaceholderTemplate.compile("{0} ${name}").applyArguments("only positional"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void compiledTemplateCached() {
+        assertThat(PLACEHOLDER_TEMPLATE_ENGINE.compile("{0}")).isSameAs(PLACEHOLDER_TEMPLATE_ENGINE.compile("{0}"));
+    }
+
+    @Test
+    public void applyArgumentsToWriter()
+        throws Exception {
+
+        // given
+        final StringWriter writer = new StringWriter();
+
+        // when
+        PLACEHOLDER_TEMPLATE_ENGINE.applyArgumentsTo(writer, "{0}: ${value}", "key", null);
+
+        // then
+        assertThat(writer.toString()).isEqualTo("key: null");
+    }
+}
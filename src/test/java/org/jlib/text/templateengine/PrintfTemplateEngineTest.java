@@ -0,0 +1,62 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jlib.text.templateengine.PrintfTemplateEngine.PRINTF_TEMPLATE_ENGINE;
+
+/**
+ * Test case for the {@link PrintfTemplateEngine}.
+ *
+ * @author Igor Akkerman
+ */
+public class PrintfTemplateEngineTest {
+
+    @Test
+    public void applyArguments() {
+        assertThat(PRINTF_TEMPLATE_ENGINE.applyArguments("%s has %03d items", "cart", 7)).isEqualTo("cart has 007 items");
+    }
+
+    @Test
+    public void compiledTemplateCached() {
+        assertThat(PRINTF_TEMPLATE_ENGINE.compile(new StringBuilder("%s!"))).isSameAs(PRINTF_TEMPLATE_ENGINE.compile("%s!"));
+    }
+
+    @Test
+    public void applyArgumentsToWriter()
+        throws Exception {
+
+        // given
+        final StringWriter writer = new StringWriter();
+
+        // when
+        PRINTF_TEMPLATE_ENGINE.applyArgumentsTo(writer, "[%5s|%x]", "ab", 255);
+
+        // then
+        assertThat(writer.toString()).isEqualTo("[   ab|ff]");
+    }
+}
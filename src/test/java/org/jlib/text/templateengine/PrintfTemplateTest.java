@@ -0,0 +1,148 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.util.IllegalFormatException;
+import java.util.IllegalFormatFlagsException;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test case for the {@link PrintfTemplate}.
+ *
+ * @author Igor Akkerman
+ */
+public class PrintfTemplateTest {
+
+    @Test
+    public void literalOnly() {
+        assertThat(PrintfTemplate.compile("no arguments").applyArguments(null)).isEqualTo("no arguments");
+    }
+
+    @Test
+    public void sameResultAsStringFormat() {
+
+        // given
+        final String format = "[%s|%5d|%-6s|%04x|%.2f|%%|%n|%b]";
+        final Object[] arguments = { "abc", 42, "xy", 255, 3.14159, true };
+
+        // when
+        final String result = PrintfTemplate.compile(format).applyArguments(Locale.US, arguments);
+
+        // then
+        assertThat(result).isEqualTo(String.format(Locale.US, format, arguments));
+    }
+
+    @Test
+    public void fastPathsSameResultAsStringFormat() {
+
+        // given
+        final String[] formats = { "%s", "%8s", "%-8s", "%.2s", "%6.2s", "%d", "%6d", "%-6d", "%06d", "%x", "%6x",
+                                   "%-6x", "%06x" };
+        final Object[] arguments = { "text", new StringBuilder("builder"), null, 0, 7, - 42, Integer.MAX_VALUE,
+                                     Integer.MIN_VALUE, 123456789012L, Long.MIN_VALUE, (short) - 5, (byte) 12 };
+
+        for (final String format : formats)
+            for (final Object argument : arguments) {
+                final String expected;
+                try {
+                    expected = String.format(Locale.US, format, argument);
+                }
+                catch (final IllegalFormatException exception) {
+                    continue;
+                }
+
+                // when
+                final String result = PrintfTemplate.compile(format).applyArguments(Locale.US, argument);
+
+                // then
+                assertThat(result).as(format + " " + argument).isEqualTo(expected);
+            }
+    }
+
+    @Test
+    public void nonArabicZeroDigitFormattedLikeStringFormat() {
+
+        // given
+        final Locale locale = Locale.forLanguageTag("th-TH-u-nu-thai");
+
+        // when
+        final String result = PrintfTemplate.compile("%05d").applyArguments(locale, 42);
+
+        // then
+        assertThat(result).isEqualTo(String.format(locale, "%05d", 42));
+    }
+
+    @Test
+    public void explicitAndRelativeArgumentIndices() {
+
+        // given
+        final String format = "%2$s %1$s %<s %s %s";
+        final Object[] arguments = { "a", "b" };
+
+        // when
+        final String result = PrintfTemplate.compile(format).applyArguments(null, arguments);
+
+        // then
+        assertThat(result).isEqualTo(String.format(format, arguments));
+    }
+
+    @Test
+    public void appendsToTarget() {
+
+        // given
+        final StringBuilder target = new StringBuilder(">");
+
+        // when
+        PrintfTemplate.compile("%s-%s").applyArgumentsTo(target, null, 1, 2);
+
+        // then
+        assertThat(target.toString()).isEqualTo(">1-2");
+    }
+
+    @Test
+    public void missingArgument() {
+        assertThatThrownBy(() -> PrintfTemplate.compile("%s %s").applyArguments(null, "a"))
+            .isInstanceOf(MissingFormatArgumentException.class);
+    }
+
+    @Test
+    public void incompleteSpecifier() {
+        assertThatThrownBy(() -> PrintfTemplate.compile("abc %5")).isInstanceOf(UnknownFormatConversionException.class);
+    }
+
+    @Test
+    public void previousArgumentFlagRejectedWithoutArgument() {
+        for (final String template : new String[] { "%<%", "%<n", "x%s%<%", "%s%<n", "%-<5%" }) {
+            assertThatThrownBy(() -> String.format(template, "v")).isInstanceOf(IllegalFormatFlagsException.class);
+            assertThatThrownBy(() -> PrintfTemplate.compile(template))
+                .as(template).isInstanceOf(IllegalFormatFlagsException.class);
+        }
+    }
+}
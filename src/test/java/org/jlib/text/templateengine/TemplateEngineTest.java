@@ -0,0 +1,96 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.templateengine;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the default methods of the {@link TemplateEngine} and for the {@link IgnoreArgumentsTemplateEngine}.
+ *
+ * @author Igor Akkerman
+ */
+public class TemplateEngineTest {
+
+    @Test
+    public void defaultApplyArgumentsToAppendsResult()
+        throws Exception {
+
+        // given
+        final TemplateEngine<String> engine = (template, arguments) -> template + String.join(",", arguments);
+        final StringWriter writer = new StringWriter();
+
+        // when
+        engine.applyArgumentsTo(writer, "values:", "a", "b");
+
+        // then
+        assertThat(writer.toString()).isEqualTo("values:a,b");
+    }
+
+    @Test
+    public void ignoreArgumentsAppendsTemplate()
+        throws Exception {
+
+        // given
+        final StringBuilder target = new StringBuilder(">");
+
+        // when
+        IgnoreArgumentsTemplateEngine.<Object>instance().applyArgumentsTo(target, "{0} text", "ignored");
+
+        // then
+        assertThat(target.toString()).isEqualTo(">{0} text");
+    }
+
+    @Test
+    public void applyArgumentsToByteBuffer() {
+
+        // given
+        final ByteBuffer target = ByteBuffer.allocate(32);
+
+        // when
+        final boolean encoded = PrintfTemplateEngine.INSTANCE.applyArgumentsTo(target, "%s: %d\u20ac", "Preis", 5);
+
+        // then
+        assertThat(encoded).isTrue();
+        assertThat(new String(target.array(), 0, target.position(), UTF_8)).isEqualTo("Preis: 5\u20ac");
+    }
+
+    @Test
+    public void applyArgumentsToByteBufferOverflow() {
+
+        // given
+        final ByteBuffer target = ByteBuffer.allocate(4);
+
+        // when
+        final boolean encoded = PlaceholderTemplateEngine.INSTANCE.applyArgumentsTo(target, "{0} and {1}", "a", "b");
+
+        // then
+        assertThat(encoded).isFalse();
+        assertThat(target.position()).isZero();
+    }
+}
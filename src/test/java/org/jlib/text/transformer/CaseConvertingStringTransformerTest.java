@@ -0,0 +1,139 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the case converting {@link StringTransformer}s.
+ *
+ * @author Igor Akkerman
+ */
+public class CaseConvertingStringTransformerTest {
+
+    private static String transform(final StringTransformer transformer, final String string) {
+        final StringBuilder stringBuilder = new StringBuilder(string);
+        transformer.transform(stringBuilder);
+        return stringBuilder.toString();
+    }
+
+    @Test
+    public void camelCaseToSnakeCase() {
+        // given
+        final StringTransformer transformer = StringTransformers.camelCaseToSnakeCase();
+
+        // when
+        // then
+        assertThat(transform(transformer, "")).isEmpty();
+        assertThat(transform(transformer, "name")).isEqualTo("name");
+        assertThat(transform(transformer, "firstName")).isEqualTo("first_name");
+        assertThat(transform(transformer, "FirstName")).isEqualTo("first_name");
+        assertThat(transform(transformer, "parseHTTPResponse")).isEqualTo("parse_http_response");
+        assertThat(transform(transformer, "parseHTTP")).isEqualTo("parse_http");
+        assertThat(transform(transformer, "address2Line")).isEqualTo("address2_line");
+        assertThat(transform(transformer, "already_snake")).isEqualTo("already_snake");
+        assertThat(transform(transformer, "größeÄnderung")).isEqualTo("größe_änderung");
+        assertThat(transform(transformer, "a𐐀b")).isEqualTo("a_𐐨b");
+    }
+
+    @Test
+    public void camelCaseToKebabCase() {
+        // given
+        final StringTransformer transformer = StringTransformers.camelCaseToKebabCase();
+
+        // when
+        // then
+        assertThat(transform(transformer, "parseHTTPResponse")).isEqualTo("parse-http-response");
+        assertThat(transform(transformer, "X")).isEqualTo("x");
+    }
+
+    @Test
+    public void snakeCaseToCamelCase() {
+        // given
+        final StringTransformer transformer = StringTransformers.snakeCaseToCamelCase();
+
+        // when
+        // then
+        assertThat(transform(transformer, "")).isEmpty();
+        assertThat(transform(transformer, "name")).isEqualTo("name");
+        assertThat(transform(transformer, "parse_http_response")).isEqualTo("parseHttpResponse");
+        assertThat(transform(transformer, "PARSE_HTTP")).isEqualTo("parseHttp");
+        assertThat(transform(transformer, "a__b")).isEqualTo("aB");
+        assertThat(transform(transformer, "_private_field_")).isEqualTo("_privateField_");
+        assertThat(transform(transformer, "größe_änderung")).isEqualTo("größeÄnderung");
+        assertThat(transform(transformer, "a_𐐨b")).isEqualTo("a𐐀b");
+    }
+
+    @Test
+    public void kebabCaseToCamelCase() {
+        // given
+        final StringTransformer transformer = StringTransformers.kebabCaseToCamelCase();
+
+        // when
+        // then
+        assertThat(transform(transformer, "parse-http-response")).isEqualTo("parseHttpResponse");
+        assertThat(transform(transformer, "snake_stays")).isEqualTo("snake_stays");
+    }
+
+    @Test
+    public void roundTrip() {
+        // given
+        final String camelCase = "serializedFieldName2Value";
+
+        // when
+        final String snakeCase = transform(StringTransformers.camelCaseToSnakeCase(), camelCase);
+        final String kebabCase = transform(StringTransformers.camelCaseToKebabCase(), camelCase);
+
+        // then
+        assertThat(transform(StringTransformers.snakeCaseToCamelCase(), snakeCase)).isEqualTo(camelCase);
+        assertThat(transform(StringTransformers.kebabCaseToCamelCase(), kebabCase)).isEqualTo(camelCase);
+    }
+
+    @Test
+    public void titleCase() {
+        // given
+        final StringTransformer transformer = StringTransformers.titleCase();
+
+        // when
+        // then
+        assertThat(transform(transformer, "")).isEmpty();
+        assertThat(transform(transformer, "the QUICK brown-fox")).isEqualTo("The Quick Brown-Fox");
+        assertThat(transform(transformer, "don't stop")).isEqualTo("Don't Stop");
+        assertThat(transform(transformer, "ǆemal über")).isEqualTo("ǅemal Über");
+        assertThat(transformer.predictLength(7)).isEqualTo(7);
+    }
+
+    @Test
+    public void camelCaseToLowerCaseWords() {
+        // given
+        final StringTransformer transformer = StringTransformers.camelCaseToLowerCaseWords();
+
+        // when
+        // then
+        assertThat(transform(transformer, "")).isEmpty();
+        assertThat(transform(transformer, "IllegalArgumentException")).isEqualTo("illegal argument exception");
+        assertThat(transform(transformer, "parseHTTP")).isEqualTo("parse h t t p");
+    }
+}
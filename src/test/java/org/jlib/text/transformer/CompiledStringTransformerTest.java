@@ -0,0 +1,93 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for {@link CompiledStringTransformer}.
+ *
+ * @author Igor Akkerman
+ */
+public class CompiledStringTransformerTest {
+
+    private static final StringTransformer[] STAGES = {
+        new CenteringStringTransformer(5, '.'),
+        new RightAligningStringTransformer(8, '-'),
+        new LeftAligningStringTransformer(9, '+'),
+        new RightCenteringStringTransformer(14, '*'),
+        new CamelCaseToLowerCaseWordsTransformer(),
+        new CenteringStringTransformer(20, ' '),
+        new CenteringStringTransformer(23, ' ')
+    };
+
+    @Test
+    public void compiledTransformsLikeComposite() {
+        final CompositeStringTransformer compositeStringTransformer = new CompositeStringTransformer(STAGES);
+        final StringTransformer compiledStringTransformer = compositeStringTransformer.compile();
+
+        for (final String original : new String[] { "", "A", "ab", "abC", "abcdefghijkl", "abcdefghijklmnopqrstu" })
+            assertThat(compiledStringTransformer.transform(original))
+                .as(original)
+                .isEqualTo(compositeStringTransformer.transform(original));
+    }
+
+    @Test
+    public void fusedPadding() {
+        assertThat(StringTransformers.compose(new CenteringStringTransformer(4, '.'),
+                                              new RightAligningStringTransformer(6, '-'),
+                                              new LeftAligningStringTransformer(7, '+'))
+                                     .transform("ab"))
+            .isEqualTo("--.ab.+");
+    }
+
+    @Test
+    public void predictLength() {
+        assertThat(StringTransformers.compose(new CenteringStringTransformer(4, '.'),
+                                              new LeftAligningStringTransformer(7, '+'))
+                                     .predictLength(2))
+            .isEqualTo(7);
+
+        assertThat(StringTransformers.compose(new CenteringStringTransformer(4, '.'),
+                                              new CamelCaseToLowerCaseWordsTransformer())
+                                     .predictLength(2))
+            .isEqualTo(StringTransformer.UNKNOWN_LENGTH);
+    }
+
+    @Test
+    public void compiledIsNotAffectedByLaterChanges() {
+
+        // given
+        final CompositeStringTransformer compositeStringTransformer =
+            new CompositeStringTransformer(new LeftAligningStringTransformer(3, '+'));
+        final StringTransformer compiledStringTransformer = compositeStringTransformer.compile();
+
+        // when
+        compositeStringTransformer.addStringTransformer(new RightAligningStringTransformer(5, '-'));
+
+        // then
+        assertThat(compiledStringTransformer.transform("a")).isEqualTo("a++");
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the {@link FormattingStringTransformer}.
+ *
+ * @author Igor Akkerman
+ */
+public class FormattingStringTransformerTest {
+
+    @Test
+    public void originalStringAsSoleValue() {
+        assertThat(new FormattingStringTransformer("<%6s>").transform("abc")).isEqualTo("<   abc>");
+    }
+
+    @Test
+    public void originalStringBetweenValues() {
+        assertThat(new FormattingStringTransformer("%s %s %d", 1, "x", 42).transform("abc")).isEqualTo("x abc 42");
+    }
+
+    @Test
+    public void sharedAcrossThreads()
+        throws Exception {
+
+        // given
+        final FormattingStringTransformer transformer = new FormattingStringTransformer("[%s:%s]", 0, "suffix");
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int threadIndex = 0; threadIndex < 4; threadIndex++) {
+                final String original = "thread" + threadIndex;
+                final Callable<Boolean> task = () -> {
+                    for (int iteration = 0; iteration < 10_000; iteration++)
+                        if (! transformer.transform(original).equals("[" + original + ":suffix]"))
+                            return false;
+                    return true;
+                };
+                results.add(executor.submit(task));
+            }
+
+            // then
+            for (final Future<Boolean> result : results)
+                assertThat(result.get()).isTrue();
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+}
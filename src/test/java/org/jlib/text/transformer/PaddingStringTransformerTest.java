@@ -0,0 +1,200 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for the {@link PaddingStringTransformer}s.
+ *
+ * @author Igor Akkerman
+ */
+public class PaddingStringTransformerTest {
+
+    @Test
+    public void centerEvenPadding() {
+        assertThat(new CenteringStringTransformer(8, 'x').transform("abcd")).isEqualTo("xxabcdxx");
+    }
+
+    @Test
+    public void centerOddPaddingBackGetsMore() {
+        assertThat(new CenteringStringTransformer(9, 'x').transform("abcd")).isEqualTo("xxabcdxxx");
+    }
+
+    @Test
+    public void rightAlign() {
+        assertThat(new RightAligningStringTransformer(7, 'x').transform("abcd")).isEqualTo("xxxabcd");
+    }
+
+    @Test
+    public void longerStringUnchanged() {
+        assertThat(new RightAligningStringTransformer(3, 'x').transform("abcd")).isEqualTo("abcd");
+    }
+
+    @Test
+    public void padBeyondSharedPadCharacters() {
+
+        // given
+        final StringBuilder expected = new StringBuilder("ab");
+        for (int padIndex = 0; padIndex < 198; padIndex++)
+            expected.insert(0, '-');
+
+        // then
+        assertThat(new RightAligningStringTransformer(200, '-').transform("ab")).isEqualTo(expected.toString());
+        assertThat(new LeftAligningStringTransformer(3, '-').transform("ab")).isEqualTo("ab-");
+    }
+
+    @Test
+    public void padBeyondSharedPadCharactersInChunks() {
+
+        // given
+        final String leadingPad = repeat('<', 600);
+        final String trailingPad = repeat('>', 601);
+
+        // when
+        final String centered = new CenteringStringTransformer(1203, '.').transform("ab");
+        final String fused = StringTransformers.compose(new LeftAligningStringTransformer(603, '>'),
+                                                        new RightAligningStringTransformer(1203, '<'))
+                                               .transform("ab");
+
+        // then
+        assertThat(centered).isEqualTo(repeat('.', 600) + "ab" + repeat('.', 601));
+        assertThat(fused).isEqualTo(leadingPad + "ab" + trailingPad);
+    }
+
+    @Test
+    public void sharedPadCharactersBounded() {
+
+        // when
+        final PaddingStringTransformer paddingStringTransformer =
+            new LeftAligningStringTransformer(Integer.MAX_VALUE, ' ');
+
+        // then
+        assertThat(paddingStringTransformer.getPadCharacters()).hasSize(PaddingStringTransformer.PAD_CHARACTERS_LENGTH);
+    }
+
+    @Test
+    public void deprecatedPadHookStillUsed() {
+
+        // given
+        @SuppressWarnings("deprecation")
+        final PaddingStringTransformer legacyCenteringStringTransformer = new PaddingStringTransformer(9, 'x') {
+
+            @Override
+            protected void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder,
+                               final boolean additionalPaddingCharacterRequired) {
+                stringBuilder.insert(0, halfPadBuilder);
+                stringBuilder.append(halfPadBuilder);
+
+                if (additionalPaddingCharacterRequired)
+                    stringBuilder.append(getPaddingCharacter());
+            }
+        };
+
+        // when
+        final String padded = legacyCenteringStringTransformer.transform("abcd");
+        final String composed = StringTransformers.compose(legacyCenteringStringTransformer,
+                                                           new RightAligningStringTransformer(11, '-'))
+                                                  .transform("abcd");
+
+        // then
+        assertThat(padded).isEqualTo("xxabcdxxx");
+        assertThat(composed).isEqualTo("--xxabcdxxx");
+    }
+
+    @Test
+    public void overriddenPadOfConcreteTransformerStillUsed() {
+
+        // given
+        @SuppressWarnings("deprecation")
+        final PaddingStringTransformer legacyLeftAligningStringTransformer = new CenteringStringTransformer(9, 'x') {
+
+            @Override
+            public void pad(final StringBuilder stringBuilder, final StringBuilder halfPadBuilder,
+                            final boolean additionalPaddingCharacterRequired) {
+                stringBuilder.append(halfPadBuilder);
+                stringBuilder.append(halfPadBuilder);
+
+                if (additionalPaddingCharacterRequired)
+                    stringBuilder.append(getPaddingCharacter());
+            }
+        };
+
+        // when
+        final String padded = legacyLeftAligningStringTransformer.transform("abcd");
+
+        // then
+        assertThat(padded).isEqualTo("abcdxxxxx");
+        assertThat(legacyLeftAligningStringTransformer.usesPadHook()).isTrue();
+        assertThat(new CenteringStringTransformer(9, 'x').usesPadHook()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedPadPadsAsTransform() {
+
+        // given
+        final PaddingStringTransformer[] paddingStringTransformers = {
+            new CenteringStringTransformer(9, 'x'), new RightCenteringStringTransformer(9, 'x'),
+            new LeftAligningStringTransformer(9, 'x'), new RightAligningStringTransformer(9, 'x') };
+
+        for (final PaddingStringTransformer paddingStringTransformer : paddingStringTransformers)
+            for (final String string : new String[] { "abcd", "abc" }) {
+
+                // when
+                final StringBuilder padded = new StringBuilder(string);
+                final int padLength = 9 - string.length();
+                paddingStringTransformer.pad(padded, new StringBuilder(repeat('x', padLength / 2)), padLength % 2 != 0);
+
+                // then
+                assertThat(padded.toString()).isEqualTo(paddingStringTransformer.transform(string));
+            }
+    }
+
+    private static String repeat(final char character, final int count) {
+        final StringBuilder stringBuilder = new StringBuilder(count);
+        for (int index = 0; index < count; index++)
+            stringBuilder.append(character);
+        return stringBuilder.toString();
+    }
+
+    @Test
+    public void transformToByteBuffer() {
+
+        // given
+        final ByteBuffer target = ByteBuffer.allocateDirect(8);
+
+        // when
+        final boolean encoded = new CenteringStringTransformer(6, '.').transformTo(new StringBuilder("ab"), target);
+
+        // then
+        assertThat(encoded).isTrue();
+        assertThat(target.position()).isEqualTo(6);
+        assertThat(target.get(0)).isEqualTo((byte) '.');
+        assertThat(target.get(2)).isEqualTo((byte) 'a');
+    }
+}
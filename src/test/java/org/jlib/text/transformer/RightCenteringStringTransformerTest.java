@@ -0,0 +1,79 @@
+/*
+ * jlib - Open Source Java Library
+ *
+ *     www.jlib.org
+ *
+ *
+ *     Copyright 2005-2018 Igor Akkerman
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ */
+
+
+package org.jlib.text.transformer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test case for {@link RightCenteringStringTransformer}.
+ *
+ * @author Igor Akkerman
+ */
+public class RightCenteringStringTransformerTest {
+
+    @Test
+    public void emptyStringToOddLengthString() {
+        assertThat(new RightCenteringStringTransformer(9, 'x').transform("")).isEqualTo("xxxxxxxxx");
+    }
+
+    @Test
+    public void evenLengthStringToShorterOddLengthString() {
+        assertThat(new RightCenteringStringTransformer(3, 'x').transform("abcdef")).isEqualTo("abcdef");
+    }
+
+    @Test
+    public void evenLengthStringToLongerEvenLengthString() {
+        assertThat(new RightCenteringStringTransformer(10, 'x').transform("abcdef")).isEqualTo("xxabcdefxx");
+    }
+
+    /**
+     * Up to version 1.0.0, an odd pad was padded with one character too many, in front, returning a String one
+     * character longer than the final String length: "xxxabcdxxx" instead of "xxxabcdxx".
+     */
+    @Test
+    public void oddPaddingFrontGetsMoreKeepingFinalStringLength() {
+
+        // when
+        final String padded = new RightCenteringStringTransformer(9, 'x').transform("abcd");
+
+        // then
+        assertThat(padded).isEqualTo("xxxabcdxx");
+        assertThat(padded).hasSize(9);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedPadOfOddPaddingKeepsFinalStringLength() {
+
+        // given
+        final StringBuilder stringBuilder = new StringBuilder("abcd");
+
+        // when
+        new RightCenteringStringTransformer(9, 'x').pad(stringBuilder, new StringBuilder("xx"), true);
+
+        // then
+        assertThat(stringBuilder.toString()).isEqualTo("xxxabcdxx");
+    }
+}